@@ -0,0 +1,74 @@
+package com.taskflowapi.benchmark;
+
+import com.taskflowapi.dto.TaskResponse;
+import com.taskflowapi.entity.Project;
+import com.taskflowapi.entity.Task;
+import com.taskflowapi.entity.User;
+import com.taskflowapi.security.JwtUtil;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Deterministic inputs shared by the benchmarks so runs are comparable across changes
+final class BenchmarkFixtures {
+
+    // Same length as the default jwt.secret, so tokens are signed with the same algorithm as in production
+    static final String JWT_SECRET = "your-secret-key-minimum-256-bits-long-for-HS256-algorithm-security";
+    static final long JWT_EXPIRATION = 86_400_000L;
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", JWT_SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", JWT_EXPIRATION);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+
+    static Project project() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("john@example.com");
+        user.setName("John Doe");
+
+        Project project = new Project();
+        project.setId(1L);
+        project.setTitle("Benchmark project");
+        project.setDescription("Project used by the JMH benchmarks");
+        project.setUser(user);
+        project.setCreatedAt(CREATED_AT);
+        project.setUpdatedAt(CREATED_AT);
+        return project;
+    }
+
+    static Task task(Project project, long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setDescription("Description of task " + id + " with a realistic amount of text in it");
+        task.setDueDate(LocalDate.of(2025, 1, 1).plusDays(id % 90));
+        task.setIsCompleted(id % 3 == 0);
+        task.setProject(project);
+        task.setCreatedAt(CREATED_AT.plusMinutes(id));
+        task.setUpdatedAt(CREATED_AT.plusMinutes(id));
+        return task;
+    }
+
+    static List<TaskResponse> taskResponses(int count) {
+        Project project = project();
+        List<TaskResponse> responses = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            Task task = task(project, id);
+            responses.add(new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(),
+                    task.getIsCompleted(), project.getId(), task.getCreatedAt(), task.getUpdatedAt()));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,51 @@
+package com.taskflowapi.benchmark;
+
+import com.taskflowapi.dto.TaskResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Response bodies of the task list endpoints, written as bytes like the HTTP message converter does
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int tasks;
+
+    private JsonMapper jsonMapper;
+    private List<TaskResponse> payload;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        payload = BenchmarkFixtures.taskResponses(tasks);
+    }
+
+    @Benchmark
+    public byte[] serializeToBytes() {
+        return jsonMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public void serializeToStream() {
+        jsonMapper.writeValue(OutputStream.nullOutputStream(), payload);
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskflowapi.benchmark;
+
+import com.taskflowapi.security.AuthenticatedUser;
+import com.taskflowapi.security.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Token issuing on login and token verification on every authenticated request
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil();
+        token = jwtUtil.generateToken("john@example.com", 42L);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("john@example.com", 42L);
+    }
+
+    @Benchmark
+    public Long extractUserId() {
+        return jwtUtil.extractUserId(token);
+    }
+
+    @Benchmark
+    public AuthenticatedUser parseToken() {
+        return jwtUtil.parseToken(token);
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskflowapi.benchmark;
+
+import com.taskflowapi.dto.ProjectResponse;
+import com.taskflowapi.dto.TaskResponse;
+import com.taskflowapi.entity.Project;
+import com.taskflowapi.entity.Task;
+import com.taskflowapi.service.ProjectService;
+import com.taskflowapi.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Entity-to-DTO mapping done by the services for every returned task and project
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class MappingBenchmark {
+
+    @Param({"100", "10000"})
+    private int tasks;
+
+    private MethodHandle taskMapper;
+    private MethodHandle projectMapper;
+    private Project project;
+    private List<Task> taskEntities;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        // mapToResponse is private; the services' dependencies aren't touched by it, so null collaborators are fine
+        TaskService taskService = new TaskService(null, null, null, null);
+        ProjectService projectService = new ProjectService(null, null, null, null);
+        taskMapper = MethodHandles.privateLookupIn(TaskService.class, MethodHandles.lookup())
+                .findVirtual(TaskService.class, "mapToResponse", MethodType.methodType(TaskResponse.class, Task.class))
+                .bindTo(taskService);
+        projectMapper = MethodHandles.privateLookupIn(ProjectService.class, MethodHandles.lookup())
+                .findVirtual(ProjectService.class, "mapToResponse", MethodType.methodType(ProjectResponse.class, Project.class))
+                .bindTo(projectService);
+
+        project = BenchmarkFixtures.project();
+        taskEntities = new ArrayList<>(tasks);
+        for (long id = 1; id <= tasks; id++) {
+            taskEntities.add(BenchmarkFixtures.task(project, id));
+        }
+    }
+
+    @Benchmark
+    public void mapTasks(Blackhole blackhole) throws Throwable {
+        for (Task task : taskEntities) {
+            blackhole.consume((TaskResponse) taskMapper.invokeExact(task));
+        }
+    }
+
+    @Benchmark
+    public ProjectResponse mapProject() throws Throwable {
+        return (ProjectResponse) projectMapper.invokeExact(project);
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskflowapi.benchmark;
+
+import com.taskflowapi.security.RateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// The per-request rate limit check, for one hot user and for requests spread over many users
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class RateLimiterBenchmark {
+
+    @Param({"1", "10000"})
+    public int users;
+
+    private RateLimiter rateLimiter;
+
+    @Setup
+    public void setUp() {
+        // A limit no benchmark reaches, so every call takes the allowed path
+        RateLimiter.Policy policy = new RateLimiter.Policy(1_000_000_000, Duration.ofMinutes(1));
+        rateLimiter = new RateLimiter(Map.of(
+                RateLimiter.EndpointClass.READS, policy,
+                RateLimiter.EndpointClass.WRITES, policy,
+                RateLimiter.EndpointClass.AUTH, policy), 100_000);
+    }
+
+    private Long nextUser() {
+        return users == 1 ? 1L : ThreadLocalRandom.current().nextLong(users);
+    }
+
+    @Benchmark
+    public RateLimiter.Decision tryAcquire() {
+        return rateLimiter.tryAcquire(RateLimiter.EndpointClass.READS, nextUser());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public RateLimiter.Decision tryAcquireContended() {
+        return rateLimiter.tryAcquire(RateLimiter.EndpointClass.READS, nextUser());
+    }
+}
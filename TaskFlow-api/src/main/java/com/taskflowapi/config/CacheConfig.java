@@ -0,0 +1,66 @@
+package com.taskflowapi.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String USER_PRINCIPALS_CACHE = "userPrincipals";
+
+    // Hibernate second-level cache regions (entities, then the query results of cacheable lookups)
+    public static final String USER_REGION = "users";
+    public static final String PROJECT_REGION = "projects";
+    public static final String LOOKUP_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+    /**
+     * In-process Caffeine caches backing the Hibernate second-level cache. Every region is created here, bounded in
+     * size and age, and Hibernate is set to fail on any region not listed rather than create an unbounded one.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${taskflow.cache.l2.maximum-size:50000}") long maximumSize,
+            @Value("${taskflow.cache.l2.expire-after-write:30m}") Duration expireAfterWrite
+    ) {
+        // A manager per application context, so test contexts on the same database never share cached rows
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("taskflow-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : List.of(USER_REGION, PROJECT_REGION, LOOKUP_REGION)) {
+            cacheManager.createCache(region, regionConfiguration(OptionalLong.of(maximumSize),
+                    OptionalLong.of(expireAfterWrite.toNanos())));
+        }
+        // One entry per table; evicting it early would let stale query results through, so it is left unbounded
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                regionConfiguration(OptionalLong.empty(), OptionalLong.empty()));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(OptionalLong maximumSize, OptionalLong expireAfterWrite) {
+        return new CaffeineConfiguration<>()
+                .setMaximumSize(maximumSize)
+                .setExpireAfterWrite(expireAfterWrite)
+                .setStoreByValue(false)
+                .setStatisticsEnabled(true);
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskflowapi.config;
+
+import com.taskflowapi.filter.ConcurrencyLimitFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.security.autoconfigure.web.servlet.SecurityFilterProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "taskflow.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter(
+            @Value("${taskflow.concurrency-limit.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+            @Value("${taskflow.concurrency-limit.acquire-timeout:2s}") Duration acquireTimeout
+    ) {
+        return new ConcurrencyLimitFilter(maxConcurrent, acquireTimeout);
+    }
+
+    // Runs ahead of Spring Security, whose JWT filter may already need a connection for the principal lookup
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration(ConcurrencyLimitFilter filter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityFilterProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
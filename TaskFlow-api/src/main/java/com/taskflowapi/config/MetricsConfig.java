@@ -0,0 +1,37 @@
+package com.taskflowapi.config;
+
+import com.taskflowapi.filter.QueryCountFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.security.autoconfigure.web.servlet.SecurityFilterProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    // Outermost API filter, so the principal lookup in the JWT filter is counted too
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilterRegistration(
+            SqlStatementCounter sqlStatementCounter,
+            MeterRegistry meterRegistry
+    ) {
+        FilterRegistrationBean<QueryCountFilter> registration =
+                new FilterRegistrationBean<>(new QueryCountFilter(sqlStatementCounter, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityFilterProperties.DEFAULT_FILTER_ORDER - 2);
+        return registration;
+    }
+}
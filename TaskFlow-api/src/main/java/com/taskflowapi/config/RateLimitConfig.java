@@ -0,0 +1,44 @@
+package com.taskflowapi.config;
+
+import com.taskflowapi.filter.RateLimitFilter;
+import com.taskflowapi.security.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "taskflow.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.rate-limit.reads.limit:600}") int readsLimit,
+            @Value("${taskflow.rate-limit.reads.period:1m}") Duration readsPeriod,
+            @Value("${taskflow.rate-limit.writes.limit:120}") int writesLimit,
+            @Value("${taskflow.rate-limit.writes.period:1m}") Duration writesPeriod,
+            @Value("${taskflow.rate-limit.auth.limit:60}") int authLimit,
+            @Value("${taskflow.rate-limit.auth.period:1m}") Duration authPeriod,
+            @Value("${taskflow.rate-limit.max-keys:100000}") long maxKeys
+    ) {
+        Map<RateLimiter.EndpointClass, RateLimiter.Policy> policies = Map.of(
+                RateLimiter.EndpointClass.READS, new RateLimiter.Policy(readsLimit, readsPeriod),
+                RateLimiter.EndpointClass.WRITES, new RateLimiter.Policy(writesLimit, writesPeriod),
+                RateLimiter.EndpointClass.AUTH, new RateLimiter.Policy(authLimit, authPeriod));
+        return new RateLimitFilter(new RateLimiter(policies, maxKeys), policies, meterRegistry);
+    }
+
+    // Runs only inside the security filter chain (after the JWT filter), not a second time as a servlet filter
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
@@ -0,0 +1,56 @@
+package com.taskflowapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Only active when a replica is configured; otherwise Spring Boot's single datasource is used as before
+@Configuration
+@ConditionalOnProperty(name = "taskflow.datasource.replica.jdbc-url")
+public class ReadWriteDataSourceConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("taskflow.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        // Start even when the replica is down; reads fall back to the primary until it's reachable
+        dataSource.setInitializationFailTimeout(-1);
+        // Defaults (overridable via taskflow.datasource.replica.*): a read waits this long, not Hikari's 30 s,
+        // before it falls back to the primary
+        dataSource.setConnectionTimeout(1000);
+        dataSource.setValidationTimeout(500);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${taskflow.datasource.read-your-writes-window:5s}") Duration readYourWritesWindow,
+            @Value("${taskflow.datasource.replica-retry-after:10s}") Duration replicaRetryAfter
+    ) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, readYourWritesWindow, replicaRetryAfter);
+        routing.checkReplica();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,127 @@
+package com.taskflowapi.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflowapi.security.AuthenticatedUser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Sends connections for read-only transactions to the replica and everything else to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy: the read-only flag is only bound to the thread after the
+ * transaction manager has begun the transaction, so the physical connection has to be fetched lazily.
+ * <p>
+ * A user who committed a write is pinned to the primary for {@code readYourWritesWindow} so they never read
+ * a replica that hasn't caught up yet. If the replica can't hand out a connection, reads fall back to the
+ * primary and the replica is skipped for {@code replicaRetryAfter}.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Cache<Long, Boolean> recentWriters;
+    private final long replicaRetryAfterNanos;
+    private volatile long replicaDownUntil;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      Duration readYourWritesWindow, Duration replicaRetryAfter) {
+        this.primary = primary;
+        this.replica = replica;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .maximumSize(100_000)
+                .build();
+        this.replicaRetryAfterNanos = replicaRetryAfter.toNanos();
+        this.replicaDownUntil = System.nanoTime();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!useReplica()) {
+            return primaryConnection(null, null);
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            markReplicaDown(e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!useReplica()) {
+            return primaryConnection(username, password);
+        }
+        try {
+            return replica.getConnection(username, password);
+        } catch (SQLException e) {
+            markReplicaDown(e);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    /**
+     * Probes the replica once, so a replica that is down at startup is logged then, and reads skip it from the start.
+     */
+    public void checkReplica() {
+        try (Connection ignored = replica.getConnection()) {
+            log.info("Read replica reachable, routing read-only transactions to it");
+        } catch (SQLException e) {
+            markReplicaDown(e);
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return System.nanoTime() - replicaDownUntil >= 0;
+    }
+
+    private boolean useReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || !isReplicaAvailable()) {
+            return false;
+        }
+        Long userId = currentUserId();
+        return userId == null || recentWriters.getIfPresent(userId) == null;
+    }
+
+    private Connection primaryConnection(String username, String password) throws SQLException {
+        Long userId = currentUserId();
+        // Pin the user to the primary once the write is committed, whether or not it touched any rows
+        if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(userId, Boolean.TRUE);
+                }
+            });
+        }
+        return username != null ? primary.getConnection(username, password) : primary.getConnection();
+    }
+
+    private void markReplicaDown(SQLException cause) {
+        replicaDownUntil = System.nanoTime() + replicaRetryAfterNanos;
+        log.warn("Read replica unavailable, routing reads to the primary for {} ms: {}",
+                replicaRetryAfterNanos / 1_000_000, cause.getMessage());
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getUserId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskflowapi.config;
+
+import com.taskflowapi.service.LocalReminderNotifier;
+import com.taskflowapi.service.ReminderNotifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Path;
+
+@Configuration
+public class ReminderConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(ReminderNotifier.class)
+    public ReminderNotifier localReminderNotifier(
+            JsonMapper jsonMapper,
+            @Value("${taskflow.reminders.notifier-file:}") String file
+    ) {
+        return new LocalReminderNotifier(jsonMapper, file.isBlank() ? null : Path.of(file));
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskflowapi.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start()} and {@link #stop()}.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public void start() {
+        COUNT.set(new long[1]);
+    }
+
+    public long current() {
+        long[] count = COUNT.get();
+        return count == null ? 0 : count[0];
+    }
+
+    public long stop() {
+        long count = current();
+        COUNT.remove();
+        return count;
+    }
+}
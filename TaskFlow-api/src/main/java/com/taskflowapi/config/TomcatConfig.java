@@ -0,0 +1,31 @@
+package com.taskflowapi.config;
+
+import org.apache.coyote.http11.AbstractHttp11Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.tomcat.servlet.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * {@code server.tomcat.connection-timeout} is kept short so a response write to a client that stopped reading (a
+ * stalled change stream) fails quickly. Tomcat would otherwise use the same value while reading request bodies, so a
+ * slow upload that pauses briefly would be cut off; bodies get {@code taskflow.server.upload-timeout} instead.
+ */
+@Configuration
+public class TomcatConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> uploadTimeoutCustomizer(
+            @Value("${taskflow.server.upload-timeout:5m}") Duration uploadTimeout
+    ) {
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            if (connector.getProtocolHandler() instanceof AbstractHttp11Protocol<?> protocol) {
+                protocol.setDisableUploadTimeout(false);
+                protocol.setConnectionUploadTimeout(Math.toIntExact(uploadTimeout.toMillis()));
+            }
+        });
+    }
+}
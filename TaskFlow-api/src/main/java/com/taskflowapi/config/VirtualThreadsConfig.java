@@ -0,0 +1,26 @@
+package com.taskflowapi.config;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+// Spring Boot silently ignores spring.threads.virtual.enabled below Java 21, which would leave the virtual profile
+// running Tomcat's platform threads behind the concurrency limit; refuse to start instead
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig implements InitializingBean {
+
+    static final int MIN_JAVA_VERSION = 21;
+
+    @Override
+    public void afterPropertiesSet() {
+        requireVirtualThreads(Runtime.version());
+    }
+
+    static void requireVirtualThreads(Runtime.Version version) {
+        if (version.feature() < MIN_JAVA_VERSION) {
+            throw new IllegalStateException("spring.threads.virtual.enabled (the virtual profile) needs Java "
+                    + MIN_JAVA_VERSION + " or later, but this runtime is Java " + version);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.taskflowapi.controller;
 import com.taskflowapi.dto.LoginRequest;
 import com.taskflowapi.dto.LoginResponse;
 import com.taskflowapi.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -16,8 +17,9 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
-        LoginResponse response = authService.login(request);
+    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        // Behind a proxy, set server.forward-headers-strategy so this is the client's address, not the proxy's
+        LoginResponse response = authService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,27 @@
+package com.taskflowapi.controller;
+
+import com.taskflowapi.dto.DashboardResponse;
+import com.taskflowapi.security.AuthenticatedUser;
+import com.taskflowapi.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping
+    public ResponseEntity<DashboardResponse> getDashboard(
+            @RequestParam(defaultValue = "0") int upcoming,
+            @AuthenticationPrincipal AuthenticatedUser user
+    ) {
+        Long userId = user.getUserId();
+        DashboardResponse dashboard = dashboardService.getDashboard(userId, upcoming);
+        return ResponseEntity.ok(dashboard);
+    }
+}
@@ -0,0 +1,37 @@
+package com.taskflowapi.controller;
+
+import com.taskflowapi.exception.TooManyRequestsException;
+import com.taskflowapi.security.AuthenticatedUser;
+import com.taskflowapi.service.ChangeStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class EventController {
+
+    private final ChangeStreamService changeStreamService;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(required = false) Long projectId,
+            @AuthenticationPrincipal AuthenticatedUser user
+    ) {
+        return changeStreamService.subscribe(user.getUserId(), projectId);
+    }
+
+    // EventSource only accepts text/event-stream, so the JSON error body can't be sent; the status and header can
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Void> handleTooManyStreams(TooManyRequestsException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .build();
+    }
+}
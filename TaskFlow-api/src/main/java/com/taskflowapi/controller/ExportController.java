@@ -0,0 +1,67 @@
+package com.taskflowapi.controller;
+
+import com.taskflowapi.security.AuthenticatedUser;
+import com.taskflowapi.service.DataFormat;
+import com.taskflowapi.service.ExportService;
+import com.taskflowapi.service.StreamLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+    private final StreamLimiter streamLimiter;
+
+    // A full export of a large account takes far longer than the container's default async timeout
+    @Value("${taskflow.export.timeout:30m}")
+    private Duration timeout;
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @AuthenticationPrincipal AuthenticatedUser user,
+            WebRequest webRequest
+    ) {
+        Long userId = user.getUserId();
+        DataFormat exportFormat = DataFormat.of(format);
+        // Compressed on the fly when the client accepts it, e.g. curl --compressed
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, 8192);
+                exportService.export(userId, exportFormat, gzipStream);
+                gzipStream.finish();
+            } else {
+                exportService.export(userId, exportFormat, outputStream);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("taskflow-export." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(streamLimiter.limit(body, timeout, webRequest));
+    }
+}
@@ -1,15 +1,21 @@
 package com.taskflowapi.controller;
 
+import com.taskflowapi.dto.ProjectDeletionResponse;
 import com.taskflowapi.dto.ProjectProgressResponse;
 import com.taskflowapi.dto.ProjectRequest;
 import com.taskflowapi.dto.ProjectResponse;
-import com.taskflowapi.security.JwtUtil;
+import com.taskflowapi.security.AuthenticatedUser;
+import com.taskflowapi.service.ProjectDeletionService;
 import com.taskflowapi.service.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
 
@@ -18,45 +24,59 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProjectController {
 
+    // Lets browsers keep the body but revalidate it with If-None-Match on every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final ProjectService projectService;
-    private final JwtUtil jwtUtil;
+    private final ProjectDeletionService projectDeletionService;
 
     @PostMapping
     public ResponseEntity<ProjectResponse> createProject(
             @Valid @RequestBody ProjectRequest request,
-            @RequestHeader("Authorization") String authHeader
+            @AuthenticationPrincipal AuthenticatedUser user
     ) {
-        Long userId = extractUserId(authHeader);
+        Long userId = user.getUserId();
         ProjectResponse response = projectService.createProject(request, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @GetMapping
     public ResponseEntity<List<ProjectResponse>> getUserProjects(
-            @RequestHeader("Authorization") String authHeader
+            @AuthenticationPrincipal AuthenticatedUser user,
+            WebRequest webRequest
     ) {
-        Long userId = extractUserId(authHeader);
+        Long userId = user.getUserId();
+        // Version first: an unchanged list is answered with 304 before any project is loaded
+        String etag = projectService.getUserProjectsVersion(userId).toETag("projects-" + userId);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
         List<ProjectResponse> projects = projectService.getUserProjects(userId);
-        return ResponseEntity.ok(projects);
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(projects);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ProjectResponse> getProjectById(
             @PathVariable Long id,
-            @RequestHeader("Authorization") String authHeader
+            @AuthenticationPrincipal AuthenticatedUser user,
+            WebRequest webRequest
     ) {
-        Long userId = extractUserId(authHeader);
+        Long userId = user.getUserId();
+        String etag = projectService.getProjectVersion(id, userId).toETag("project-" + id);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
         ProjectResponse project = projectService.getProjectById(id, userId);
-        return ResponseEntity.ok(project);
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(project);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ProjectResponse> updateProject(
         @PathVariable Long id,
         @Valid @RequestBody ProjectRequest request,
-        @RequestHeader("Authorization") String authHeader
+        @AuthenticationPrincipal AuthenticatedUser user
     ) {
-    Long userId = extractUserId(authHeader);
+    Long userId = user.getUserId();
     ProjectResponse updated = projectService.updateProject(id, request, userId);
     return ResponseEntity.ok(updated);
     }
@@ -64,25 +84,35 @@ public class ProjectController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProject(
         @PathVariable Long id,
-        @RequestHeader("Authorization") String authHeader
+        @AuthenticationPrincipal AuthenticatedUser user
     ) {
-    Long userId = extractUserId(authHeader);
-    projectService.deleteProject(id, userId);
+    Long userId = user.getUserId();
+    if (projectService.deleteProject(id, userId)) {
+        // Large project: already hidden, its tasks are purged in the background
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/deletion").build().toUri())
+                .build();
+    }
     return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/{id}/deletion")
+    public ResponseEntity<ProjectDeletionResponse> getProjectDeletion(
+            @PathVariable Long id,
+            @AuthenticationPrincipal AuthenticatedUser user
+    ) {
+        Long userId = user.getUserId();
+        ProjectDeletionResponse progress = projectDeletionService.getDeletionProgress(id, userId);
+        return ResponseEntity.ok(progress);
+    }
+
     @GetMapping("/{id}/progress")
     public ResponseEntity<ProjectProgressResponse> getProjectProgress(
             @PathVariable Long id,
-            @RequestHeader("Authorization") String authHeader
+            @AuthenticationPrincipal AuthenticatedUser user
     ) {
-        Long userId = extractUserId(authHeader);
+        Long userId = user.getUserId();
         ProjectProgressResponse progress = projectService.getProjectProgress(id, userId);
         return ResponseEntity.ok(progress);
     }
-
-    private Long extractUserId(String authHeader) {
-        String token = authHeader.substring(7);
-        return jwtUtil.extractUserId(token);
-    }
 }
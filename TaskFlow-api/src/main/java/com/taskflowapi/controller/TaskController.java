@@ -1,16 +1,37 @@
 package com.taskflowapi.controller;
 
+import com.taskflowapi.dto.TaskBatchRequest;
+import com.taskflowapi.dto.TaskBatchResponse;
+import com.taskflowapi.dto.TaskImportResponse;
+import com.taskflowapi.dto.TaskPageRequest;
+import com.taskflowapi.dto.TaskPageResponse;
 import com.taskflowapi.dto.TaskUpdateRequest;
 import com.taskflowapi.dto.TaskRequest;
 import com.taskflowapi.dto.TaskResponse;
-import com.taskflowapi.security.JwtUtil;
+import com.taskflowapi.dto.TaskSearchRequest;
+import com.taskflowapi.dto.TaskSearchResponse;
+import com.taskflowapi.security.AuthenticatedUser;
+import com.taskflowapi.service.DataFormat;
+import com.taskflowapi.service.StreamLimiter;
+import com.taskflowapi.service.TaskImportService;
+import com.taskflowapi.service.TaskSearchService;
 import com.taskflowapi.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -18,36 +39,128 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TaskController {
 
+    // Lets browsers keep the body but revalidate it with If-None-Match on every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final TaskService taskService;
-    private final JwtUtil jwtUtil;
+    private final TaskImportService taskImportService;
+    private final TaskSearchService taskSearchService;
+    private final JsonMapper jsonMapper;
+    private final StreamLimiter streamLimiter;
 
     @PostMapping("/projects/{projectId}/tasks")
     public ResponseEntity<TaskResponse> createTask(
             @PathVariable Long projectId,
             @Valid @RequestBody TaskRequest request,
-            @RequestHeader("Authorization") String authHeader
+            @AuthenticationPrincipal AuthenticatedUser user
     ) {
-        Long userId = extractUserId(authHeader);
+        Long userId = user.getUserId();
         TaskResponse response = taskService.createTask(projectId, request, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/projects/{projectId}/tasks:batch")
+    public ResponseEntity<TaskBatchResponse> executeBatch(
+            @PathVariable Long projectId,
+            @Valid @RequestBody TaskBatchRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user
+    ) {
+        Long userId = user.getUserId();
+        TaskBatchResponse response = taskService.executeBatch(projectId, request, userId);
+        return ResponseEntity.ok(response);
+    }
+
+    // The body is read as it arrives; the format follows the Content-Type (application/x-ndjson or text/csv)
+    @PostMapping("/projects/{projectId}/tasks:import")
+    public ResponseEntity<TaskImportResponse> importTasks(
+            @PathVariable Long projectId,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) MediaType contentType,
+            InputStream body,
+            @AuthenticationPrincipal AuthenticatedUser user
+    ) throws IOException {
+        Long userId = user.getUserId();
+        TaskImportResponse response = taskImportService.importTasks(projectId, userId, DataFormat.of(contentType), body);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/projects/{projectId}/tasks")
     public ResponseEntity<List<TaskResponse>> getProjectTasks(
             @PathVariable Long projectId,
-            @RequestHeader("Authorization") String authHeader
+            @AuthenticationPrincipal AuthenticatedUser user,
+            WebRequest webRequest
     ) {
-        Long userId = extractUserId(authHeader);
+        Long userId = user.getUserId();
+        // Version first: an unchanged list is answered with 304 before any task is loaded
+        String etag = taskService.getProjectTasksVersion(projectId, userId).toETag("tasks-" + projectId);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
         List<TaskResponse> tasks = taskService.getProjectTasks(projectId, userId);
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(tasks);
+    }
+
+    // Same JSON array as above, written row by row from a database cursor instead of built in memory
+    @GetMapping(value = "/projects/{projectId}/tasks", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamProjectTasks(
+            @PathVariable Long projectId,
+            @AuthenticationPrincipal AuthenticatedUser user,
+            WebRequest webRequest
+    ) {
+        Long userId = user.getUserId();
+        // Also checks ownership, while an error status can still be sent
+        String etag = taskService.getProjectTasksVersion(projectId, userId).toETag("tasks-" + projectId);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = jsonMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                taskService.forEachProjectTask(projectId, userId, generator::writePOJO);
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(streamLimiter.limit(body, webRequest));
+    }
+
+    @GetMapping("/projects/{projectId}/tasks/page")
+    public ResponseEntity<TaskPageResponse> getProjectTasksPage(
+            @PathVariable Long projectId,
+            @ModelAttribute TaskPageRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user,
+            WebRequest webRequest
+    ) {
+        Long userId = user.getUserId();
+        // The page parameters are part of the tag, since each combination selects different rows
+        String etag = taskService.getProjectTasksVersion(projectId, userId)
+                .toETag("tasks-" + projectId + "-" + Integer.toHexString(request.hashCode()));
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        TaskPageResponse page = taskService.getProjectTasksPage(projectId, request, userId);
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(page);
+    }
+
+    // Ranked search across all of the user's projects
+    @GetMapping("/tasks/search")
+    public ResponseEntity<TaskSearchResponse> searchTasks(
+            @ModelAttribute TaskSearchRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user
+    ) {
+        Long userId = user.getUserId();
+        TaskSearchResponse response = taskSearchService.search(request, userId);
+        return ResponseEntity.ok(response);
     }
 
     @PatchMapping("/tasks/{id}/complete")
     public ResponseEntity<TaskResponse> toggleTaskCompletion(
             @PathVariable Long id,
-            @RequestHeader("Authorization") String authHeader
+            @AuthenticationPrincipal AuthenticatedUser user
     ) {
-        Long userId = extractUserId(authHeader);
+        Long userId = user.getUserId();
         TaskResponse response = taskService.toggleTaskCompletion(id, userId);
         return ResponseEntity.ok(response);
     }
@@ -55,9 +168,9 @@ public class TaskController {
     @DeleteMapping("/tasks/{id}")
     public ResponseEntity<Void> deleteTask(
             @PathVariable Long id,
-            @RequestHeader("Authorization") String authHeader
+            @AuthenticationPrincipal AuthenticatedUser user
     ) {
-        Long userId = extractUserId(authHeader);
+        Long userId = user.getUserId();
         taskService.deleteTask(id, userId);
         return ResponseEntity.noContent().build();
     }
@@ -66,15 +179,10 @@ public class TaskController {
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable Long id,
             @RequestBody TaskUpdateRequest request,
-            @RequestHeader("Authorization") String authHeader
+            @AuthenticationPrincipal AuthenticatedUser user
     ) {
-        Long userId = extractUserId(authHeader);
+        Long userId = user.getUserId();
         TaskResponse response = taskService.updateTask(id, request, userId);
         return ResponseEntity.ok(response);
     }
-
-    private Long extractUserId(String authHeader) {
-        String token = authHeader.substring(7);
-        return jwtUtil.extractUserId(token);
-    }
 }
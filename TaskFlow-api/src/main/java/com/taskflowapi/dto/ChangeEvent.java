@@ -0,0 +1,42 @@
+package com.taskflowapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeEvent {
+
+    public enum Type {
+        TASK_CREATED, TASK_UPDATED, TASK_TOGGLED, TASK_DELETED,
+        TASKS_CHANGED, // a batch changed several tasks at once; reload the project's tasks
+        PROJECT_CREATED, PROJECT_UPDATED, PROJECT_DELETED
+    }
+
+    private Type type;
+
+    @JsonIgnore
+    private Long userId; // owner whose streams receive the event
+
+    private Long projectId;
+    private Long taskId;
+    private TaskResponse task;
+    private ProjectResponse project;
+
+    public static ChangeEvent ofTask(Type type, Long userId, TaskResponse task) {
+        return new ChangeEvent(type, userId, task.getProjectId(), task.getId(), task, null);
+    }
+
+    public static ChangeEvent ofProject(Type type, Long userId, ProjectResponse project) {
+        return new ChangeEvent(type, userId, project.getId(), null, null, project);
+    }
+
+    public static ChangeEvent ofIds(Type type, Long userId, Long projectId, Long taskId) {
+        return new ChangeEvent(type, userId, projectId, taskId, null, null);
+    }
+}
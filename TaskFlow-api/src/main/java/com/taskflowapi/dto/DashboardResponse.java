@@ -0,0 +1,20 @@
+package com.taskflowapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardResponse {
+    private long totalProjects;
+    private long totalTasks;
+    private long completedTasks;
+    private long overdueTasks;
+    private double progressPercentage;
+    private List<ProjectStatsResponse> projects;
+    private List<TaskResponse> upcomingTasks;
+}
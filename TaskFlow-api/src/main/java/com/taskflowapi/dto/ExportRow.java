@@ -0,0 +1,27 @@
+package com.taskflowapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// One row of the export join: a project with one of its tasks, or with null task columns when it has none
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportRow {
+    private Long projectId;
+    private String projectTitle;
+    private String projectDescription;
+    private LocalDateTime projectCreatedAt;
+    private LocalDateTime projectUpdatedAt;
+    private Long taskId;
+    private String taskTitle;
+    private String taskDescription;
+    private LocalDate taskDueDate;
+    private Boolean taskCompleted;
+    private LocalDateTime taskCreatedAt;
+    private LocalDateTime taskUpdatedAt;
+}
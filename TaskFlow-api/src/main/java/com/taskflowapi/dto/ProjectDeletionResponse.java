@@ -0,0 +1,15 @@
+package com.taskflowapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDeletionResponse {
+    private Long projectId;
+    private long totalTasks;
+    private long remainingTasks;
+    private double progressPercentage;
+}
@@ -0,0 +1,40 @@
+package com.taskflowapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStatsResponse {
+    private Long id;
+    private String title;
+    private String description;
+    private Long userId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private long totalTasks;
+    private long completedTasks;
+    private long overdueTasks;
+    private double progressPercentage;
+
+    // Used by the JPQL constructor expression; a project without tasks has no row in the joined counts, so all three are null
+    public ProjectStatsResponse(Long id, String title, String description, Long userId,
+                                LocalDateTime createdAt, LocalDateTime updatedAt,
+                                Long totalTasks, Long completedTasks, Long overdueTasks) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.userId = userId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.totalTasks = totalTasks != null ? totalTasks : 0L;
+        this.completedTasks = completedTasks != null ? completedTasks : 0L;
+        this.overdueTasks = overdueTasks != null ? overdueTasks : 0L;
+        double percentage = this.totalTasks > 0 ? (this.completedTasks * 100.0 / this.totalTasks) : 0.0;
+        this.progressPercentage = Math.round(percentage * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskflowapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderDigest {
+    private Long userId;
+    private String email;
+    private String name;
+    private List<TaskReminder> reminders;
+}
@@ -0,0 +1,27 @@
+package com.taskflowapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Row count and latest update time of a collection. Any create, update or delete changes at least one of them,
+ * so together they version the collection without loading it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceVersion {
+    private long count;
+    private LocalDateTime lastUpdatedAt;
+
+    // Strong validator for If-None-Match; the scope keeps different resources' tags apart
+    public String toETag(String scope) {
+        long micros = lastUpdatedAt == null ? 0
+                : lastUpdatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + lastUpdatedAt.getNano() / 1_000;
+        return "\"" + scope + "-" + count + "-" + Long.toHexString(micros) + "\"";
+    }
+}
@@ -0,0 +1,32 @@
+package com.taskflowapi.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchOperation {
+
+    public enum Type {
+        CREATE, UPDATE, TOGGLE, DELETE
+    }
+
+    @NotNull(message = "Operation type is required")
+    private Type op;
+
+    private Long taskId; // required for UPDATE, TOGGLE and DELETE
+
+    @Size(max = 255, message = "Title must not exceed 255 characters")
+    private String title; // required for CREATE, optional for UPDATE
+
+    @Size(max = 5000, message = "Description must not exceed 5000 characters")
+    private String description;
+
+    private LocalDate dueDate; // CREATE only
+}
@@ -0,0 +1,20 @@
+package com.taskflowapi.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchRequest {
+
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = 5000, message = "A batch must not exceed 5000 operations")
+    private List<@Valid TaskBatchOperation> operations;
+}
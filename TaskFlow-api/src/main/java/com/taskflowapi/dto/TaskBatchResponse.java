@@ -0,0 +1,18 @@
+package com.taskflowapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchResponse {
+    private int created;
+    private int updated;
+    private int toggled;
+    private int deleted;
+    private List<TaskResponse> tasks; // resulting state of created, updated and toggled tasks
+}
@@ -0,0 +1,15 @@
+package com.taskflowapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportError {
+    private long row; // NDJSON line number, or CSV record number after the header
+    private List<String> messages;
+}
@@ -0,0 +1,19 @@
+package com.taskflowapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportResponse {
+    private long imported;
+    private long failed;
+    private List<TaskImportError> errors; // the first failures only, see errorsTruncated
+    private boolean errorsTruncated;
+    private long durationMillis;
+    private double rowsPerSecond;
+}
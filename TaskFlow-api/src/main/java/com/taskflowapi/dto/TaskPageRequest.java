@@ -0,0 +1,27 @@
+package com.taskflowapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageRequest {
+    private String sort = "dueDate"; // dueDate or createdAt
+
+    private String cursor; // opaque, taken from the previous page's nextCursor
+
+    private Integer limit;
+
+    private Boolean completed;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueTo;
+}
@@ -0,0 +1,50 @@
+package com.taskflowapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskReminder {
+
+    // The stage is stored on the task once its reminder is claimed, so each stage is sent at most once
+    public enum Type {
+        DUE_SOON(1), OVERDUE(2);
+
+        private final int stage;
+
+        Type(int stage) {
+            this.stage = stage;
+        }
+
+        public int getStage() {
+            return stage;
+        }
+    }
+
+    private Type type;
+    private Long taskId;
+    private String title;
+    private LocalDate dueDate;
+    private Long projectId;
+    private String projectTitle;
+
+    @JsonIgnore
+    private Long userId;
+
+    @JsonIgnore
+    private String userEmail;
+
+    @JsonIgnore
+    private String userName;
+
+    public TaskReminder(Long taskId, String title, LocalDate dueDate, Long projectId, String projectTitle,
+                        Long userId, String userEmail, String userName) {
+        this(null, taskId, title, dueDate, projectId, projectTitle, userId, userEmail, userName);
+    }
+}
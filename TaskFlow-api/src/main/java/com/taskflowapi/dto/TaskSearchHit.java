@@ -0,0 +1,16 @@
+package com.taskflowapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchHit {
+    private TaskResponse task;
+    private double score;
+    // HTML-escaped text with matches wrapped in <mark>; the description is cut to a snippet around the first match
+    private String titleHighlight;
+    private String descriptionHighlight;
+}
@@ -0,0 +1,16 @@
+package com.taskflowapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchRequest {
+    private String q;
+
+    private Integer page; // zero-based
+
+    private Integer limit;
+}
@@ -0,0 +1,16 @@
+package com.taskflowapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResponse {
+    private List<TaskSearchHit> items;
+    private int page;
+    private boolean hasMore;
+}
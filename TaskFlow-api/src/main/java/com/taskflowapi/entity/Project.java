@@ -1,17 +1,26 @@
 package com.taskflowapi.entity;
 
+import com.taskflowapi.config.CacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.PROJECT_REGION)
 @Table(name = "projects")
+@SQLRestriction("deleted_at IS NULL")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,12 +36,28 @@ public class Project {
     @Column(columnDefinition = "TEXT")
     private String description;
     
+    // Associations stay out of toString/equals/hashCode so logging or comparing an entity never lazy-loads
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
     
-    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
+    // No cascade: removing tasks through the collection would load and delete them one row at a time, so
+    // ProjectService and ProjectDeletionService delete them in bulk
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @OneToMany(mappedBy = "project")
     private List<Task> tasks;
+
+    // Task counters are only changed through atomic increments in ProjectRepository, never by entity updates
+    @ColumnDefault("0")
+    @Column(name = "total_tasks", nullable = false, updatable = false)
+    private Long totalTasks = 0L;
+
+    @ColumnDefault("0")
+    @Column(name = "completed_tasks", nullable = false, updatable = false)
+    private Long completedTasks = 0L;
     
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
@@ -41,4 +66,8 @@ public class Project {
     @UpdateTimestamp
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+
+    // Set when a large project is deleted: the project is hidden from every query right away and purged in the background
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
 }
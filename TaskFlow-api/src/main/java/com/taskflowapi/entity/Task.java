@@ -3,7 +3,10 @@ package com.taskflowapi.entity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -11,14 +14,23 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // Keyset pagination: (project_id, sort key, id) lets each page be a single index range scan
+        @Index(name = "idx_tasks_project_due_date", columnList = "project_id, due_date, id"),
+        @Index(name = "idx_tasks_project_created_at", columnList = "project_id, created_at, id"),
+        @Index(name = "idx_tasks_project_completed_due_date", columnList = "project_id, is_completed, due_date, id"),
+        // Reminder scans: open tasks in a due-date window, across all projects
+        @Index(name = "idx_tasks_completed_due_date", columnList = "is_completed, due_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
     
+    // IDENTITY would force one INSERT round trip per row; a pooled sequence (a table on MySQL) allows JDBC batching
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -33,6 +45,13 @@ public class Task {
     @Column(name = "is_completed", nullable = false)
     private Boolean isCompleted = false;
     
+    // Last reminder sent (0 none, then TaskReminder.Type stages); only set by ReminderService's bulk update
+    @ColumnDefault("0")
+    @Column(name = "reminder_stage", nullable = false, updatable = false)
+    private Integer reminderStage = 0;
+    
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
@@ -1,9 +1,15 @@
 package com.taskflowapi.entity;
 
+import com.taskflowapi.config.CacheConfig;
+import com.taskflowapi.security.UserCacheEvictionListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -11,7 +17,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.USER_REGION)
 @Table(name = "users")
+@EntityListeners(UserCacheEvictionListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,7 +38,10 @@ public class User {
     @Column(nullable = false)
     private String name;
     
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    // No cascade, for the same reason as Project.tasks: a user's projects and tasks must be deleted in bulk
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @OneToMany(mappedBy = "user")
     private List<Project> projects;
     
     @CreationTimestamp
@@ -0,0 +1,111 @@
+package com.taskflowapi.filter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of API requests in flight at once. With virtual threads Tomcat no longer limits concurrency,
+ * so without this every request would end up queued inside Hikari, each holding its memory and a client socket
+ * until connection-timeout. Requests that can't get a permit within the wait budget are rejected with 503.
+ * A streamed response keeps its permit until the body has been written, since that is when it holds a connection.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutMillis;
+
+    public ConcurrencyLimitFilter(int maxConcurrent, Duration acquireTimeout) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+    }
+
+    // An open change stream holds no thread or connection while idle, and would otherwise keep a permit for its lifetime
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/api/events");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            reject(response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete());
+            } else {
+                permits.release();
+            }
+        }
+    }
+
+    public int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getQueued() {
+        return permits.getQueueLength();
+    }
+
+    // Streaming bodies are written on an async thread after the filter chain returns; the permit goes back once they finish
+    private class ReleaseOnComplete implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permits.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader("Retry-After", "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"status\":503,\"message\":\"Server is busy, please retry\",\"timestamp\":\""
+                + LocalDateTime.now() + "\",\"details\":null}");
+    }
+}
@@ -1,29 +1,34 @@
 package com.taskflowapi.filter;
 
+import com.taskflowapi.security.AuthenticatedUser;
 import com.taskflowapi.security.CustomUserDetailsService;
 import com.taskflowapi.security.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService, MeterRegistry meterRegistry) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -35,7 +40,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String userEmail;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
@@ -44,17 +48,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         jwt = authHeader.substring(7);
         
+        Timer.Sample verification = Timer.start(meterRegistry);
+        String outcome = "invalid";
         try {
-            userEmail = jwtUtil.extractEmail(jwt);
+            // Signature and expiration are verified here, once per request
+            AuthenticatedUser principal = jwtUtil.parseToken(jwt);
+            outcome = "valid";
 
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+            if (principal.getEmail() != null && principal.getUserId() != null
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
+                // Served from the principal cache; rejects tokens of deleted users or users whose email changed
+                AuthenticatedUser currentUser = userDetailsService.loadPrincipalById(principal.getUserId());
 
-                if (jwtUtil.validateToken(jwt, userDetails.getUsername())) {
+                if (currentUser.getEmail().equals(principal.getEmail())) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
+                            currentUser,
                             null,
-                            userDetails.getAuthorities()
+                            List.of()
                     );
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -63,6 +73,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         } catch (Exception e) {
             // Token validation failed, continue without authentication
             logger.error("JWT validation failed", e);
+        } finally {
+            verification.stop(meterRegistry.timer("taskflow.jwt.verification", "outcome", outcome));
         }
 
         filterChain.doFilter(request, response);
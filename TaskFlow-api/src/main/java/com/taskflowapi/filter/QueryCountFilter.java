@@ -0,0 +1,52 @@
+package com.taskflowapi.filter;
+
+import com.taskflowapi.config.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each request issued, tagged with the matched endpoint pattern.
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "taskflow.request.queries";
+
+    private final SqlStatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountFilter(SqlStatementCounter statementCounter, MeterRegistry meterRegistry) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        statementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long queries = statementCounter.stop();
+            // Same uri tag as http.server.requests; unmatched requests collapse into one series
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("SQL statements issued per HTTP request")
+                    .baseUnit("queries")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                    .register(meterRegistry)
+                    .record(queries);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.taskflowapi.filter;
+
+import com.taskflowapi.security.AuthenticatedUser;
+import com.taskflowapi.security.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-user rate limits for the API, applied right after {@link JwtAuthenticationFilter} so requests are keyed by the
+ * authenticated user id; requests without a user (login, or a missing or invalid token) are keyed by client address.
+ * Every response carries the {@code RateLimit-*} headers of its endpoint class, and requests over the limit are
+ * answered with 429 and {@code Retry-After}.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "taskflow.rate-limit.rejected";
+
+    private final RateLimiter rateLimiter;
+    private final Map<RateLimiter.EndpointClass, Counter> rejected = new EnumMap<>(RateLimiter.EndpointClass.class);
+    private final Map<RateLimiter.EndpointClass, String> policyHeaders = new EnumMap<>(RateLimiter.EndpointClass.class);
+
+    public RateLimitFilter(RateLimiter rateLimiter, Map<RateLimiter.EndpointClass, RateLimiter.Policy> policies,
+                           MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        for (RateLimiter.EndpointClass endpointClass : RateLimiter.EndpointClass.values()) {
+            String tag = endpointClass.name().toLowerCase(Locale.ROOT);
+            rejected.put(endpointClass, Counter.builder(METRIC_NAME)
+                    .description("Requests rejected by the per-user rate limit")
+                    .tag("class", tag)
+                    .register(meterRegistry));
+            RateLimiter.Policy policy = policies.get(endpointClass);
+            policyHeaders.put(endpointClass, policy.getLimit() + ";w=" + policy.getPeriod().toSeconds());
+        }
+        meterRegistry.gauge("taskflow.rate-limit.buckets", rateLimiter, RateLimiter::estimatedKeys);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        RateLimiter.EndpointClass endpointClass = classify(request);
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(endpointClass, key(request, endpointClass));
+
+        response.setHeader("RateLimit-Policy", policyHeaders.get(endpointClass));
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.getPolicy().getLimit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.getRemaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(seconds(decision.getResetNanos())));
+
+        if (!decision.isAllowed()) {
+            rejected.get(endpointClass).increment();
+            reject(response, seconds(decision.getRetryAfterNanos()));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static RateLimiter.EndpointClass classify(HttpServletRequest request) {
+        if (request.getRequestURI().startsWith("/api/auth/")) {
+            return RateLimiter.EndpointClass.AUTH;
+        }
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method)
+                ? RateLimiter.EndpointClass.READS
+                : RateLimiter.EndpointClass.WRITES;
+    }
+
+    private static Object key(HttpServletRequest request, RateLimiter.EndpointClass endpointClass) {
+        if (endpointClass != RateLimiter.EndpointClass.AUTH) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+                return user.getUserId();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    // Rounded up, so a client that waits the advertised time always finds a token
+    private static long seconds(long nanos) {
+        return (nanos + 999_999_999) / 1_000_000_000;
+    }
+
+    private static void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfterSeconds)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"status\":429,\"message\":\"Rate limit exceeded, please retry later\",\"timestamp\":\""
+                + LocalDateTime.now() + "\",\"details\":null}");
+    }
+}
@@ -0,0 +1,7 @@
+package com.taskflowapi.repository;
+
+// Counter writes implemented by hand so they can evict just the affected project from the second-level cache
+public interface ProjectCounterRepository {
+
+    int adjustTaskCounters(Long projectId, long totalDelta, long completedDelta);
+}
@@ -0,0 +1,47 @@
+package com.taskflowapi.repository;
+
+import com.taskflowapi.entity.Project;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@RequiredArgsConstructor
+class ProjectCounterRepositoryImpl implements ProjectCounterRepository {
+
+    // Not a real table: a bulk update names the query spaces it touches, and Hibernate drops every cached entity and
+    // query result of those spaces. Counters change on every task write and no cached query depends on them, so the
+    // update claims only this space and the one project it changed is evicted below instead.
+    static final String COUNTERS_SPACE = "project_task_counters";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int adjustTaskCounters(Long projectId, long totalDelta, long completedDelta) {
+        int updated = entityManager.createNativeQuery(
+                        "UPDATE projects SET total_tasks = total_tasks + :totalDelta, " +
+                        "completed_tasks = completed_tasks + :completedDelta WHERE id = :projectId")
+                .setParameter("totalDelta", totalDelta)
+                .setParameter("completedDelta", completedDelta)
+                .setParameter("projectId", projectId)
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, COUNTERS_SPACE)
+                .executeUpdate();
+        evict(projectId);
+
+        // Evict again after commit so a concurrent request can't re-cache the pre-commit row
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(projectId);
+                }
+            });
+        }
+        return updated;
+    }
+
+    private void evict(Long projectId) {
+        entityManager.getEntityManagerFactory().getCache().evict(Project.class, projectId);
+    }
+}
@@ -1,14 +1,103 @@
 package com.taskflowapi.repository;
 
+import com.taskflowapi.dto.ExportRow;
+import com.taskflowapi.dto.ProjectResponse;
+import com.taskflowapi.dto.ProjectStatsResponse;
+import com.taskflowapi.dto.ResourceVersion;
 import com.taskflowapi.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
-    List<Project> findByUserId(Long userId);
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectCounterRepository {
+    @Query("SELECT new com.taskflowapi.dto.ProjectResponse(p.id, p.title, p.description, p.user.id, p.createdAt, p.updatedAt) " +
+            "FROM Project p WHERE p.user.id = :userId ORDER BY p.id")
+    List<ProjectResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    // Ownership lookup behind nearly every request; the cached result is invalidated by any project insert/update/delete
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Project> findByIdAndUserId(Long id, Long userId);
+
+    @Query("SELECT new com.taskflowapi.dto.ResourceVersion(COUNT(p), MAX(p.updatedAt)) " +
+            "FROM Project p WHERE p.user.id = :userId")
+    ResourceVersion findVersionByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.taskflowapi.dto.ResourceVersion(COUNT(p), MAX(p.updatedAt)) " +
+            "FROM Project p WHERE p.id = :projectId AND p.user.id = :userId")
+    ResourceVersion findVersionByIdAndUserId(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    // Counts are grouped by project id in a derived table and joined back, so the TEXT description isn't a grouping key
+    @Query("SELECT new com.taskflowapi.dto.ProjectStatsResponse(" +
+            "p.id, p.title, p.description, p.user.id, p.createdAt, p.updatedAt, " +
+            "s.totalTasks, s.completedTasks, s.overdueTasks) " +
+            "FROM Project p LEFT JOIN (" +
+            "SELECT t.project.id AS projectId, " +
+            "COUNT(t.id) AS totalTasks, " +
+            "SUM(CASE WHEN t.isCompleted = true THEN 1 ELSE 0 END) AS completedTasks, " +
+            "SUM(CASE WHEN t.isCompleted = false AND t.dueDate < :today THEN 1 ELSE 0 END) AS overdueTasks " +
+            "FROM Task t WHERE t.project.user.id = :userId " +
+            "GROUP BY t.project.id) s ON s.projectId = p.id " +
+            "WHERE p.user.id = :userId " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProjectStatsResponse> findStatsByUserId(@Param("userId") Long userId, @Param("today") LocalDate today);
+
+    // Every project and task of a user in one ordered pass; DTO rows on a forward-only cursor keep memory flat
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.taskflowapi.dto.ExportRow(" +
+            "p.id, p.title, p.description, p.createdAt, p.updatedAt, " +
+            "t.id, t.title, t.description, t.dueDate, t.isCompleted, t.createdAt, t.updatedAt) " +
+            "FROM Project p LEFT JOIN p.tasks t " +
+            "WHERE p.user.id = :userId " +
+            "ORDER BY p.id, t.id")
+    Stream<ExportRow> streamExportRowsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids AND (" +
+            "p.totalTasks <> (SELECT COUNT(t) FROM Task t WHERE t.project = p) OR " +
+            "p.completedTasks <> (SELECT COUNT(t) FROM Task t WHERE t.project = p AND t.isCompleted = true))")
+    List<Long> findIdsWithCounterDrift(@Param("ids") Collection<Long> ids);
+
+    // Recomputes from the tasks table in one statement so concurrent task writes can't interleave with the repair
+    @Modifying
+    @Query("UPDATE Project p SET " +
+            "p.totalTasks = (SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId), " +
+            "p.completedTasks = (SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId AND t.isCompleted = true) " +
+            "WHERE p.id = :projectId")
+    int recomputeTaskCounters(@Param("projectId") Long projectId);
+
+    // A bulk update rather than an entity save: it drops the cached project, which would otherwise still be found by id
+    @Modifying
+    @Query("UPDATE Project p SET p.deletedAt = :deletedAt WHERE p.id = :projectId")
+    int markDeleted(@Param("projectId") Long projectId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // Projects pending deletion are invisible to JPQL (see Project's @SQLRestriction), so these queries are native
+    @Query(value = "SELECT id FROM projects WHERE deleted_at IS NOT NULL ORDER BY deleted_at, id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findDeletedIds(@Param("limit") int limit);
+
+    @Query(value = "SELECT total_tasks FROM projects WHERE id = :id AND user_id = :userId AND deleted_at IS NOT NULL",
+            nativeQuery = true)
+    Optional<Long> findDeletedTotalTasks(@Param("id") Long id, @Param("userId") Long userId);
+
+    // The row was evicted and its cached queries invalidated when it was hidden, so the delete claims no real space
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "deleted_projects"))
+    @Query(value = "DELETE FROM projects WHERE id = :id AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeDeleted(@Param("id") Long id);
 }
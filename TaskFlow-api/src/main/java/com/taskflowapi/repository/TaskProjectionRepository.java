@@ -0,0 +1,14 @@
+package com.taskflowapi.repository;
+
+import com.taskflowapi.dto.TaskResponse;
+import com.taskflowapi.entity.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+// Specification queries that select straight into TaskResponse instead of loading Task entities
+public interface TaskProjectionRepository {
+
+    List<TaskResponse> findResponses(Specification<Task> spec, Sort sort, int limit);
+}
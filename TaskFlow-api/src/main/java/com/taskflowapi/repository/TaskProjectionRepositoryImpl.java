@@ -0,0 +1,34 @@
+package com.taskflowapi.repository;
+
+import com.taskflowapi.dto.TaskResponse;
+import com.taskflowapi.entity.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+class TaskProjectionRepositoryImpl implements TaskProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<TaskResponse> findResponses(Specification<Task> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponse> query = cb.createQuery(TaskResponse.class);
+        Root<Task> task = query.from(Task.class);
+        // Same columns as the JPQL TaskResponse constructor expressions in TaskRepository
+        query.select(cb.construct(TaskResponse.class,
+                task.get("id"), task.get("title"), task.get("description"), task.get("dueDate"),
+                task.get("isCompleted"), task.get("project").get("id"), task.get("createdAt"), task.get("updatedAt")));
+        query.where(spec.toPredicate(task, query, cb));
+        query.orderBy(QueryUtils.toOrders(sort, task, cb));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
@@ -1,24 +1,109 @@
 package com.taskflowapi.repository;
 
+import com.taskflowapi.dto.ResourceVersion;
+import com.taskflowapi.dto.TaskReminder;
+import com.taskflowapi.dto.TaskResponse;
 import com.taskflowapi.entity.Task;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    List<Task> findByProjectId(Long projectId);
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskProjectionRepository,
+        TaskUpdateRepository {
+    // Read paths select the response columns directly: no managed entities, snapshots or persistence-context growth
+    @Query("SELECT new com.taskflowapi.dto.TaskResponse(" +
+            "t.id, t.title, t.description, t.dueDate, t.isCompleted, t.project.id, t.createdAt, t.updatedAt) " +
+            "FROM Task t WHERE t.project.id = :projectId ORDER BY t.id")
+    List<TaskResponse> findResponsesByProjectId(@Param("projectId") Long projectId);
+
+    // Write paths lock the rows they read so concurrent toggles can't double-count project counters
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Task> findByProjectIdAndIdIn(Long projectId, Collection<Long> ids);
     
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT t FROM Task t WHERE t.id = :taskId AND t.project.user.id = :userId")
     Optional<Task> findByIdAndUserId(@Param("taskId") Long taskId, @Param("userId") Long userId);
     
+    @Query("SELECT new com.taskflowapi.dto.TaskResponse(" +
+            "t.id, t.title, t.description, t.dueDate, t.isCompleted, t.project.id, t.createdAt, t.updatedAt) " +
+            "FROM Task t WHERE t.id = :taskId AND t.project.user.id = :userId")
+    Optional<TaskResponse> findResponseByIdAndUserId(@Param("taskId") Long taskId, @Param("userId") Long userId);
+
+    @Query("SELECT new com.taskflowapi.dto.TaskResponse(" +
+            "t.id, t.title, t.description, t.dueDate, t.isCompleted, t.project.id, t.createdAt, t.updatedAt) " +
+            "FROM Task t WHERE t.id IN :ids")
+    List<TaskResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Forward-only cursor of DTOs: nothing enters the persistence context, so memory stays flat for any project size
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.taskflowapi.dto.TaskResponse(" +
+            "t.id, t.title, t.description, t.dueDate, t.isCompleted, t.project.id, t.createdAt, t.updatedAt) " +
+            "FROM Task t WHERE t.project.id = :projectId AND t.project.user.id = :userId ORDER BY t.id")
+    Stream<TaskResponse> streamResponsesByProjectIdAndUserId(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    // Empty when the project doesn't exist or belongs to someone else
+    @Query("SELECT new com.taskflowapi.dto.ResourceVersion(COUNT(t.id), MAX(t.updatedAt)) " +
+            "FROM Project p LEFT JOIN p.tasks t " +
+            "WHERE p.id = :projectId AND p.user.id = :userId GROUP BY p.id")
+    Optional<ResourceVersion> findVersionByProjectIdAndUserId(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    // Single-statement writes: the ownership check is part of the UPDATE, so the database flips and
+    // assigns values atomically and concurrent requests can't overwrite each other's changes
+    @Modifying
+    @Query("UPDATE Task t SET t.isCompleted = CASE WHEN t.isCompleted = true THEN false ELSE true END, " +
+            "t.updatedAt = :now " +
+            "WHERE t.id = :taskId AND t.project.id IN (SELECT p.id FROM Project p WHERE p.user.id = :userId)")
+    int toggleCompletion(@Param("taskId") Long taskId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
     @Query("SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId")
     long countByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId ORDER BY t.id")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    // Set-based delete: one statement, no tasks loaded into the persistence context
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.project.id = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
     
     @Query("SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId AND t.isCompleted = true")
     long countCompletedByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT new com.taskflowapi.dto.TaskResponse(" +
+            "t.id, t.title, t.description, t.dueDate, t.isCompleted, t.project.id, t.createdAt, t.updatedAt) " +
+            "FROM Task t WHERE t.project.user.id = :userId AND t.isCompleted = false AND t.dueDate >= :today " +
+            "ORDER BY t.dueDate ASC, t.id ASC")
+    List<TaskResponse> findUpcomingByUserId(@Param("userId") Long userId, @Param("today") LocalDate today, Pageable pageable);
+
+    // Reminder claims: a range scan of idx_tasks_completed_due_date, skipping rows another node has locked right now
+    @Query(value = "SELECT t.id FROM tasks t " +
+            "WHERE t.is_completed = false AND t.due_date BETWEEN :fromDate AND :toDate AND t.reminder_stage < :stage " +
+            "ORDER BY t.due_date, t.id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockReminderCandidates(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate,
+                                      @Param("stage") int stage, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.reminderStage = :stage WHERE t.id IN :ids")
+    int markReminderStage(@Param("ids") Collection<Long> ids, @Param("stage") int stage);
+
+    @Query("SELECT new com.taskflowapi.dto.TaskReminder(t.id, t.title, t.dueDate, p.id, p.title, u.id, u.email, u.name) " +
+            "FROM Task t JOIN t.project p JOIN p.user u WHERE t.id IN :ids ORDER BY u.id, t.dueDate, t.id")
+    List<TaskReminder> findRemindersByIdIn(@Param("ids") Collection<Long> ids);
 }
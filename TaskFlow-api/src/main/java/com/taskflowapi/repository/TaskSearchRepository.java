@@ -0,0 +1,79 @@
+package com.taskflowapi.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked task search over title and description. On MySQL this uses the FULLTEXT index created by
+ * {@code TaskSearchIndexInitializer}; with {@code taskflow.search.full-text=false} (H2 in tests) it falls back to
+ * LIKE matching with a title-weighted score, which has the same results contract but scans the user's tasks.
+ */
+@Repository
+public class TaskSearchRepository {
+
+    private final EntityManager entityManager;
+    private final boolean fullText;
+
+    public TaskSearchRepository(EntityManager entityManager, @Value("${taskflow.search.full-text:true}") boolean fullText) {
+        this.entityManager = entityManager;
+        this.fullText = fullText;
+    }
+
+    // Terms are lower-case letters and digits only; every term must match, as a word prefix on MySQL
+    public List<Match> search(Long userId, List<String> terms, int offset, int limit) {
+        Query query = fullText ? fullTextQuery(terms) : likeQuery(terms);
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query
+                .setParameter("userId", userId)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new Match(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue()))
+                .collect(Collectors.toList());
+    }
+
+    private Query fullTextQuery(List<String> terms) {
+        String booleanQuery = terms.stream().map(term -> "+" + term + "*").collect(Collectors.joining(" "));
+        return entityManager.createNativeQuery(
+                        "SELECT t.id, MATCH(t.title, t.description) AGAINST (:query IN BOOLEAN MODE) AS score " +
+                        "FROM tasks t JOIN projects p ON p.id = t.project_id " +
+                        "WHERE p.user_id = :userId AND p.deleted_at IS NULL AND MATCH(t.title, t.description) AGAINST (:query IN BOOLEAN MODE) " +
+                        "ORDER BY score DESC, t.id DESC")
+                .setParameter("query", booleanQuery);
+    }
+
+    private Query likeQuery(List<String> terms) {
+        StringBuilder score = new StringBuilder("0");
+        StringBuilder where = new StringBuilder("p.user_id = :userId AND p.deleted_at IS NULL");
+        for (int i = 0; i < terms.size(); i++) {
+            String param = ":term" + i;
+            score.append(" + CASE WHEN LOWER(t.title) LIKE ").append(param).append(" THEN 2 ELSE 0 END")
+                    .append(" + CASE WHEN LOWER(t.description) LIKE ").append(param).append(" THEN 1 ELSE 0 END");
+            where.append(" AND (LOWER(t.title) LIKE ").append(param)
+                    .append(" OR LOWER(t.description) LIKE ").append(param).append(")");
+        }
+        Query query = entityManager.createNativeQuery(
+                "SELECT t.id, " + score + " AS score " +
+                "FROM tasks t JOIN projects p ON p.id = t.project_id " +
+                "WHERE " + where + " ORDER BY score DESC, t.id DESC");
+        for (int i = 0; i < terms.size(); i++) {
+            query.setParameter("term" + i, "%" + terms.get(i) + "%");
+        }
+        return query;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Match {
+        private final long taskId;
+        private final double score;
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskflowapi.repository;
+
+import com.taskflowapi.entity.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> inProject(Long projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    public static Specification<Task> completed(Boolean completed) {
+        return (root, query, cb) -> completed == null ? null : cb.equal(root.get("isCompleted"), completed);
+    }
+
+    public static Specification<Task> dueOnOrAfter(LocalDate from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("dueDate"), from);
+    }
+
+    public static Specification<Task> dueOnOrBefore(LocalDate to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThanOrEqualTo(root.get("dueDate"), to);
+    }
+
+    public static Specification<Task> hasDueDate(boolean hasDueDate) {
+        return (root, query, cb) -> hasDueDate ? cb.isNotNull(root.get("dueDate")) : cb.isNull(root.get("dueDate"));
+    }
+
+    // Keyset predicates: strictly after the (sort key, id) pair of the last row of the previous page
+
+    public static Specification<Task> afterDueDate(LocalDate dueDate, Long id) {
+        return (root, query, cb) -> dueDate == null ? null : cb.or(
+                cb.greaterThan(root.get("dueDate"), dueDate),
+                cb.and(cb.equal(root.get("dueDate"), dueDate), cb.greaterThan(root.get("id"), id))
+        );
+    }
+
+    public static Specification<Task> afterCreatedAt(LocalDateTime createdAt, Long id) {
+        return (root, query, cb) -> createdAt == null ? null : cb.or(
+                cb.greaterThan(root.get("createdAt"), createdAt),
+                cb.and(cb.equal(root.get("createdAt"), createdAt), cb.greaterThan(root.get("id"), id))
+        );
+    }
+
+    public static Specification<Task> afterId(Long id) {
+        return (root, query, cb) -> id == null ? null : cb.greaterThan(root.get("id"), id);
+    }
+}
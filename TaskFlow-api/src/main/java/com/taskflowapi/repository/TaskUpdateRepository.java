@@ -0,0 +1,14 @@
+package com.taskflowapi.repository;
+
+import java.time.LocalDateTime;
+
+// Partial updates whose SET clause is built from the fields actually given
+public interface TaskUpdateRepository {
+
+    /**
+     * Writes the non-null fields and updatedAt in one ownership-checked UPDATE; at least one field must be non-null.
+     *
+     * @return 1, or 0 when the task doesn't exist or belongs to someone else
+     */
+    int updateDetails(Long taskId, Long userId, String title, String description, LocalDateTime now);
+}
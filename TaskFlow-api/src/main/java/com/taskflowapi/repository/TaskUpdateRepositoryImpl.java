@@ -0,0 +1,43 @@
+package com.taskflowapi.repository;
+
+import com.taskflowapi.entity.Project;
+import com.taskflowapi.entity.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+class TaskUpdateRepositoryImpl implements TaskUpdateRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int updateDetails(Long taskId, Long userId, String title, String description, LocalDateTime now) {
+        if (title == null && description == null) {
+            throw new IllegalArgumentException("Nothing to update");
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+        // Columns the request leaves out aren't written at all, not even with their current value
+        if (title != null) {
+            update.set(task.<String>get("title"), title);
+        }
+        if (description != null) {
+            update.set(task.<String>get("description"), description);
+        }
+        update.set(task.<LocalDateTime>get("updatedAt"), now);
+
+        // Same ownership check as the JPQL writes in TaskRepository
+        Subquery<Long> owned = update.subquery(Long.class);
+        Root<Project> project = owned.from(Project.class);
+        owned.select(project.get("id")).where(cb.equal(project.get("user").get("id"), userId));
+        update.where(cb.equal(task.get("id"), taskId), task.get("project").get("id").in(owned));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -1,13 +1,18 @@
 package com.taskflowapi.repository;
 
 import com.taskflowapi.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // Login and UserDetailsService lookups; invalidated by any write to the users table
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
 }
@@ -0,0 +1,14 @@
+package com.taskflowapi.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// Principal stored in the security context once the JWT has been verified
+@Getter
+@ToString
+@AllArgsConstructor
+public class AuthenticatedUser {
+    private final Long userId;
+    private final String email;
+}
@@ -1,8 +1,10 @@
 package com.taskflowapi.security;
 
+import com.taskflowapi.config.CacheConfig;
 import com.taskflowapi.entity.User;
 import com.taskflowapi.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -32,4 +34,12 @@ public class CustomUserDetailsService implements UserDetailsService {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
     }
+
+    // Cached per user so authenticated requests don't hit the users table; evicted by UserCacheEvictionListener
+    @Cacheable(cacheNames = CacheConfig.USER_PRINCIPALS_CACHE, key = "#userId")
+    public AuthenticatedUser loadPrincipalById(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
+        return new AuthenticatedUser(user.getId(), user.getEmail());
+    }
 }
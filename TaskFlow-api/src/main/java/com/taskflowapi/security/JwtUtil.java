@@ -1,8 +1,10 @@
 package com.taskflowapi.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -22,8 +24,26 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        // The key and parser are immutable and thread-safe, so build them once instead of per token
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return signingKey;
+    }
+
+    // Verifies signature and expiration in a single parse and returns the principal the token describes
+    public AuthenticatedUser parseToken(String token) {
+        Claims claims = extractAllClaims(token);
+        return new AuthenticatedUser(claims.get("userId", Long.class), claims.getSubject());
     }
 
     public String extractEmail(String token) {
@@ -40,9 +60,7 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
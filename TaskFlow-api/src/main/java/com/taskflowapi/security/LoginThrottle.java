@@ -0,0 +1,124 @@
+package com.taskflowapi.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.taskflowapi.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Fixed-window login attempt limits: every attempt counts against the client IP, failed ones also against the email.
+ * The check runs before the password hash, so a throttled client costs a map lookup instead of a BCrypt round.
+ * Counters are per node; behind a load balancer the effective limit is the node limit times the number of nodes.
+ */
+@Component
+public class LoginThrottle {
+
+    public static final String REJECTED_METRIC = "taskflow.login.rejected";
+
+    private final Cache<String, Window> windows;
+    private final Ticker ticker;
+    private final long windowNanos;
+    private final int maxAttemptsPerIp;
+    private final int maxFailuresPerEmail;
+    private final Counter throttled;
+
+    @Autowired
+    public LoginThrottle(
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.login.throttle-window:1m}") Duration window,
+            @Value("${taskflow.login.max-attempts-per-ip:30}") int maxAttemptsPerIp,
+            @Value("${taskflow.login.max-failures-per-email:5}") int maxFailuresPerEmail
+    ) {
+        this(meterRegistry, window, maxAttemptsPerIp, maxFailuresPerEmail, Ticker.systemTicker());
+    }
+
+    LoginThrottle(MeterRegistry meterRegistry, Duration window, int maxAttemptsPerIp, int maxFailuresPerEmail,
+                  Ticker ticker) {
+        this.ticker = ticker;
+        this.windowNanos = window.toNanos();
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        // Bounded, so a flood of random emails or spoofed addresses can't grow it without limit
+        this.windows = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .ticker(ticker)
+                .build();
+        this.throttled = Counter.builder(REJECTED_METRIC)
+                .description("Logins rejected before the password check")
+                .tag("reason", "throttled")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Rejects the attempt with 429 if the client IP or the email has used up its current window.
+     */
+    public void checkAllowed(String email, String clientIp) {
+        long retryAfter = Math.max(
+                retryAfterSeconds(ipKey(clientIp), maxAttemptsPerIp),
+                retryAfterSeconds(emailKey(email), maxFailuresPerEmail));
+        if (retryAfter > 0) {
+            throttled.increment();
+            throw new TooManyRequestsException("Too many login attempts, please retry later", retryAfter);
+        }
+    }
+
+    public void recordAttempt(String clientIp) {
+        increment(ipKey(clientIp));
+    }
+
+    public void recordFailure(String email) {
+        increment(emailKey(email));
+    }
+
+    public void recordSuccess(String email) {
+        windows.invalidate(emailKey(email));
+    }
+
+    private long retryAfterSeconds(String key, int limit) {
+        Window window = windows.getIfPresent(key);
+        long now = ticker.read();
+        if (window == null || window.isOver(now, windowNanos) || window.count < limit) {
+            return 0;
+        }
+        long remainingNanos = window.start + windowNanos - now;
+        return Math.max(1, (remainingNanos + 999_999_999) / 1_000_000_000);
+    }
+
+    private void increment(String key) {
+        long now = ticker.read();
+        windows.asMap().compute(key, (k, window) -> window == null || window.isOver(now, windowNanos)
+                ? new Window(now, 1)
+                : new Window(window.start, window.count + 1));
+    }
+
+    private static String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static final class Window {
+        private final long start;
+        private final int count;
+
+        private Window(long start, int count) {
+            this.start = start;
+            this.count = count;
+        }
+
+        private boolean isOver(long now, long windowNanos) {
+            return now - start >= windowNanos;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.taskflowapi.security;
+
+import com.taskflowapi.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs login password checks on a small dedicated pool instead of the request thread. BCrypt is CPU-bound by design,
+ * so a login storm on request threads would take every core from the rest of the API; here it gets at most
+ * {@code hash-threads} of them. When those are busy and {@code queue-capacity} checks are already waiting, or a
+ * queued check hasn't started within {@code queue-timeout}, the login fails fast with 429 instead of waiting longer.
+ */
+@Component
+public class PasswordVerifier {
+
+    public static final String QUEUE_METRIC = "taskflow.login.queue";
+
+    private static final long SATURATED_RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long queueTimeoutNanos;
+    private final Timer queueWait;
+    private final Counter saturated;
+
+    public PasswordVerifier(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.login.hash-threads:0}") int hashThreads,
+            @Value("${taskflow.login.queue-capacity:32}") int queueCapacity,
+            @Value("${taskflow.login.queue-timeout:2s}") Duration queueTimeout
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        // 0 means a quarter of the cores, leaving the rest to ordinary requests
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder(QUEUE_METRIC + ".depth", executor, pool -> pool.getQueue().size())
+                .description("Password checks waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder(QUEUE_METRIC + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password checks running")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder(QUEUE_METRIC + ".wait")
+                .description("Time a password check waited for a hashing thread")
+                .register(meterRegistry);
+        this.saturated = Counter.builder(LoginThrottle.REJECTED_METRIC)
+                .description("Logins rejected before the password check")
+                .tag("reason", "saturated")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks the password on the hashing pool; the hash time itself is recorded by {@link TimedPasswordEncoder}.
+     *
+     * @throws TooManyRequestsException if the pool is saturated
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        long queuedAt = System.nanoTime();
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> {
+                long waited = System.nanoTime() - queuedAt;
+                queueWait.record(waited, TimeUnit.NANOSECONDS);
+                // The client has waited long enough; don't spend a hash on an answer that comes too late
+                if (waited > queueTimeoutNanos) {
+                    throw rejection();
+                }
+                return passwordEncoder.matches(rawPassword, encodedPassword);
+            });
+        } catch (RejectedExecutionException e) {
+            throw rejection();
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            throw rejection();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password check failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private TooManyRequestsException rejection() {
+        saturated.increment();
+        return new TooManyRequestsException("Too many logins in progress, please retry", SATURATED_RETRY_AFTER_SECONDS);
+    }
+}
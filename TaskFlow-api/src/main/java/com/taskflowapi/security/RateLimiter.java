@@ -0,0 +1,108 @@
+package com.taskflowapi.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-client token buckets, one set per endpoint class. Each bucket is a single {@link AtomicLong} holding the
+ * bucket's "theoretical arrival time" (GCRA, the generic cell rate algorithm): taking a token is one CAS, with no lock
+ * and no refill bookkeeping. Buckets live in a Caffeine cache, which is lock-free for reads and striped for writes,
+ * bounded by {@code maxKeys} and evicted after one idle period. A bucket idle that long is full again anyway, so
+ * eviction never changes a decision.
+ */
+public class RateLimiter {
+
+    public enum EndpointClass { READS, WRITES, AUTH }
+
+    private final Map<EndpointClass, Policy> policies;
+    private final Map<EndpointClass, Cache<Object, AtomicLong>> buckets = new EnumMap<>(EndpointClass.class);
+    private final Ticker ticker;
+
+    public RateLimiter(Map<EndpointClass, Policy> policies, long maxKeys) {
+        this(policies, maxKeys, Ticker.systemTicker());
+    }
+
+    RateLimiter(Map<EndpointClass, Policy> policies, long maxKeys, Ticker ticker) {
+        this.policies = new EnumMap<>(policies);
+        this.ticker = ticker;
+        this.policies.forEach((endpointClass, policy) -> buckets.put(endpointClass, Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofNanos(policy.periodNanos))
+                .maximumSize(maxKeys)
+                .ticker(ticker)
+                .build()));
+    }
+
+    /**
+     * Takes one token from the client's bucket for the endpoint class.
+     *
+     * @param key the user id, or the client address for unauthenticated requests
+     */
+    public Decision tryAcquire(EndpointClass endpointClass, Object key) {
+        Policy policy = policies.get(endpointClass);
+        AtomicLong bucket = buckets.get(endpointClass).get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        long now = ticker.read();
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, now) + policy.intervalNanos;
+            // How far the bucket would be overdrawn; the request fits if it's not overdrawn at all
+            long overdraft = next - now - policy.periodNanos;
+            if (overdraft > 0) {
+                return new Decision(false, policy, 0, Math.max(arrival, now) - now, overdraft);
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                long remaining = (policy.periodNanos - (next - now)) / policy.intervalNanos;
+                return new Decision(true, policy, remaining, next - now, 0);
+            }
+        }
+    }
+
+    public long estimatedKeys() {
+        return buckets.values().stream().mapToLong(Cache::estimatedSize).sum();
+    }
+
+    /**
+     * {@code limit} requests per {@code period}, all of which may come as one burst.
+     */
+    @Getter
+    public static class Policy {
+        private final int limit;
+        private final Duration period;
+        private final long intervalNanos;
+        private final long periodNanos;
+
+        public Policy(int limit, Duration period) {
+            if (limit < 1 || period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("A rate limit needs a positive limit and period");
+            }
+            this.limit = limit;
+            this.period = period;
+            this.intervalNanos = Math.max(1, period.toNanos() / limit);
+            this.periodNanos = intervalNanos * limit;
+        }
+    }
+
+    @Getter
+    public static class Decision {
+        private final boolean allowed;
+        private final Policy policy;
+        private final long remaining;
+        // Until the bucket is full again, and until the next token when rejected
+        private final long resetNanos;
+        private final long retryAfterNanos;
+
+        Decision(boolean allowed, Policy policy, long remaining, long resetNanos, long retryAfterNanos) {
+            this.allowed = allowed;
+            this.policy = policy;
+            this.remaining = remaining;
+            this.resetNanos = resetNanos;
+            this.retryAfterNanos = retryAfterNanos;
+        }
+    }
+}
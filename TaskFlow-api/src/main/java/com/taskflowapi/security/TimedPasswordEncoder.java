@@ -0,0 +1,45 @@
+package com.taskflowapi.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Times every hash and verification of the wrapped encoder; with BCrypt these dominate login and registration.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    public static final String METRIC_NAME = "taskflow.password.verification";
+
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.encodeTimer = timer(meterRegistry, "encode");
+        this.matchesTimer = timer(meterRegistry, "matches");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder(METRIC_NAME)
+                .description("Password hashing and verification time")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return Boolean.TRUE.equals(matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
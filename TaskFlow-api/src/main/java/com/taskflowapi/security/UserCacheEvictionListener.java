@@ -0,0 +1,43 @@
+package com.taskflowapi.security;
+
+import com.taskflowapi.config.CacheConfig;
+import com.taskflowapi.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictionListener {
+
+    private final CacheManager cacheManager;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        Long userId = user.getId();
+        evict(userId);
+
+        // Evict again after commit so a concurrent request can't re-cache the pre-commit row
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    private void evict(Long userId) {
+        Cache cache = cacheManager.getCache(CacheConfig.USER_PRINCIPALS_CACHE);
+        if (cache != null) {
+            cache.evict(userId);
+        }
+    }
+}
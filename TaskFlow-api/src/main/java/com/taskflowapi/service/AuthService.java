@@ -6,25 +6,33 @@ import com.taskflowapi.entity.User;
 import com.taskflowapi.exception.UnauthorizedException;
 import com.taskflowapi.repository.UserRepository;
 import com.taskflowapi.security.JwtUtil;
+import com.taskflowapi.security.LoginThrottle;
+import com.taskflowapi.security.PasswordVerifier;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed("taskflow.service")
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
+    private final LoginThrottle loginThrottle;
     private final JwtUtil jwtUtil;
 
-    public LoginResponse login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new UnauthorizedException("Invalid credentials"));
+    public LoginResponse login(LoginRequest request, String clientIp) {
+        // Throttled clients are turned away before the lookup and the hash
+        loginThrottle.checkAllowed(request.getEmail(), clientIp);
+        loginThrottle.recordAttempt(clientIp);
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
+        if (user == null || !passwordVerifier.matches(request.getPassword(), user.getPasswordHash())) {
+            loginThrottle.recordFailure(request.getEmail());
             throw new UnauthorizedException("Invalid credentials");
         }
+        loginThrottle.recordSuccess(request.getEmail());
 
         String token = jwtUtil.generateToken(user.getEmail(), user.getId());
 
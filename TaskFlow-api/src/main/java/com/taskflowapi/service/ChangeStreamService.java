@@ -0,0 +1,222 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.dto.ChangeEvent;
+import com.taskflowapi.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed task and project changes to each user's open Server-Sent Events streams.
+ * Idle streams hold no thread: the request is in async mode and a shared pool writes queued events.
+ * A write to a client that stopped reading blocks its pool thread until Tomcat's write timeout
+ * ({@code server.tomcat.connection-timeout}) fails it, so the pool grows on demand up to {@code dispatch-threads}
+ * instead of letting a few stalled clients hold every thread; each user may keep {@code max-streams-per-user} open.
+ */
+@Service
+public class ChangeStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeStreamService.class);
+
+    private static final long RECONNECT_DELAY_MILLIS = 3000;
+
+    private final ProjectService projectService;
+    private final Duration timeout;
+    private final int bufferSize;
+    private final int maxStreamsPerUser;
+    private final ThreadPoolExecutor dispatcher;
+    private final Counter droppedStreams;
+
+    private final ConcurrentHashMap<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger openStreams = new AtomicInteger();
+
+    public ChangeStreamService(
+            ProjectService projectService,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.events.timeout:30m}") Duration timeout,
+            @Value("${taskflow.events.buffer-size:256}") int bufferSize,
+            @Value("${taskflow.events.dispatch-threads:64}") int dispatchThreads,
+            @Value("${taskflow.events.max-streams-per-user:8}") int maxStreamsPerUser
+    ) {
+        this.projectService = projectService;
+        this.timeout = timeout;
+        this.bufferSize = bufferSize;
+        this.maxStreamsPerUser = maxStreamsPerUser;
+        AtomicInteger threadCount = new AtomicInteger();
+        // Threads are started as writes need them and retire when idle
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "sse-dispatch-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.dispatcher.allowCoreThreadTimeOut(true);
+        meterRegistry.gauge("taskflow.events.streams", openStreams);
+        this.droppedStreams = meterRegistry.counter("taskflow.events.dropped");
+    }
+
+    public SseEmitter subscribe(Long userId, Long projectId) {
+        if (projectId != null) {
+            projectService.validateUserOwnsProject(projectId, userId);
+        }
+
+        return subscribe(userId, projectId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(Long userId, Long projectId, SseEmitter emitter) {
+        Subscription subscription = new Subscription(userId, projectId, emitter);
+        boolean[] admitted = {false};
+        subscriptions.compute(userId, (id, userSubscriptions) -> {
+            if (userSubscriptions == null) {
+                userSubscriptions = ConcurrentHashMap.newKeySet();
+            }
+            if (userSubscriptions.size() < maxStreamsPerUser) {
+                userSubscriptions.add(subscription);
+                admitted[0] = true;
+            }
+            return userSubscriptions.isEmpty() ? null : userSubscriptions;
+        });
+        if (!admitted[0]) {
+            // A stream the client dropped without closing still counts until the next heartbeat finds it gone
+            throw new TooManyRequestsException("Too many open event streams", RECONNECT_DELAY_MILLIS / 1000);
+        }
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        openStreams.incrementAndGet();
+        // Flushes the response headers right away and tells EventSource how long to wait before reconnecting
+        subscription.offer(SseEmitter.event().comment("connected").reconnectTime(RECONNECT_DELAY_MILLIS));
+        return emitter;
+    }
+
+    // Only committed changes are published, so clients never see a write that was rolled back
+    @TransactionalEventListener
+    public void onChange(ChangeEvent event) {
+        Set<Subscription> userSubscriptions = subscriptions.get(event.getUserId());
+        if (userSubscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : userSubscriptions) {
+            if (subscription.projectId == null || subscription.projectId.equals(event.getProjectId())) {
+                subscription.offer(SseEmitter.event()
+                        .name(event.getType().name())
+                        .data(event, MediaType.APPLICATION_JSON));
+            }
+        }
+    }
+
+    // Keeps proxies from closing idle streams and detects clients that went away without closing
+    @Scheduled(fixedDelayString = "${taskflow.events.heartbeat-interval:25s}")
+    public void sendHeartbeats() {
+        subscriptions.values().forEach(userSubscriptions ->
+                userSubscriptions.forEach(subscription -> subscription.offer(SseEmitter.event().comment("heartbeat"))));
+    }
+
+    public int getOpenStreams() {
+        return openStreams.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.values().forEach(userSubscriptions -> userSubscriptions.forEach(Subscription::close));
+        dispatcher.shutdownNow();
+    }
+
+    private final class Subscription {
+
+        private final Long userId;
+        private final Long projectId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscription(Long userId, Long projectId, SseEmitter emitter) {
+            this.userId = userId;
+            this.projectId = projectId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void offer(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                // Slow consumer: rather than buffer without bound or stall other streams, drop it; the client
+                // reconnects and reloads, which is cheap thanks to conditional GETs
+                droppedStreams.increment();
+                log.warn("Closing event stream of user {}: {} events pending", userId, bufferSize);
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    close();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = buffer.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client disconnected or the emitter already completed
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (!closed.get() && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            buffer.clear();
+            openStreams.decrementAndGet();
+            subscriptions.computeIfPresent(userId, (id, userSubscriptions) -> {
+                userSubscriptions.remove(this);
+                return userSubscriptions.isEmpty() ? null : userSubscriptions;
+            });
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // Already completed by the container
+            }
+        }
+    }
+}
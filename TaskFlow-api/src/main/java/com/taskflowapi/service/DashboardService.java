@@ -0,0 +1,59 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.dto.DashboardResponse;
+import com.taskflowapi.dto.ProjectStatsResponse;
+import com.taskflowapi.dto.TaskResponse;
+import com.taskflowapi.repository.ProjectRepository;
+import com.taskflowapi.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@Timed("taskflow.service")
+@RequiredArgsConstructor
+public class DashboardService {
+
+    public static final int MAX_UPCOMING_TASKS = 50;
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+
+    @Transactional(readOnly = true)
+    public DashboardResponse getDashboard(Long userId, int upcomingLimit) {
+        LocalDate today = LocalDate.now();
+
+        // One grouped query for every project's counters, regardless of how many projects the user has
+        List<ProjectStatsResponse> projects = projectRepository.findStatsByUserId(userId, today);
+
+        long totalTasks = 0;
+        long completedTasks = 0;
+        long overdueTasks = 0;
+        for (ProjectStatsResponse project : projects) {
+            totalTasks += project.getTotalTasks();
+            completedTasks += project.getCompletedTasks();
+            overdueTasks += project.getOverdueTasks();
+        }
+        double progressPercentage = totalTasks > 0 ? (completedTasks * 100.0 / totalTasks) : 0.0;
+
+        int limit = Math.min(Math.max(upcomingLimit, 0), MAX_UPCOMING_TASKS);
+        List<TaskResponse> upcomingTasks = limit > 0
+                ? taskRepository.findUpcomingByUserId(userId, today, PageRequest.of(0, limit))
+                : List.of();
+
+        return new DashboardResponse(
+                projects.size(),
+                totalTasks,
+                completedTasks,
+                overdueTasks,
+                Math.round(progressPercentage * 100.0) / 100.0,
+                projects,
+                upcomingTasks
+        );
+    }
+}
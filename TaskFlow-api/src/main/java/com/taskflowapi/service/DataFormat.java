@@ -0,0 +1,45 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.exception.BadRequestException;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+// Line-oriented formats used for bulk export and import
+public enum DataFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    DataFormat(String mediaType, String extension) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static DataFormat of(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported format: " + value);
+        }
+    }
+
+    public static DataFormat of(MediaType contentType) {
+        for (DataFormat format : values()) {
+            if (contentType != null && format.mediaType.isCompatibleWith(contentType)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("Unsupported content type: " + contentType + " (use application/x-ndjson or text/csv)");
+    }
+}
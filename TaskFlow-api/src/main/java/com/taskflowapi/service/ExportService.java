@@ -0,0 +1,112 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.dto.ExportRow;
+import com.taskflowapi.dto.ProjectResponse;
+import com.taskflowapi.dto.TaskResponse;
+import com.taskflowapi.repository.ProjectRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Service
+@Timed("taskflow.service")
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final String CSV_HEADER = "project_id,project_title,project_description,project_created_at,project_updated_at," +
+            "task_id,task_title,task_description,task_due_date,task_completed,task_created_at,task_updated_at\n";
+
+    private final ProjectRepository projectRepository;
+    private final JsonMapper jsonMapper;
+
+    // One read-only transaction gives a consistent snapshot; rows are written as they arrive from the cursor
+    @Transactional(readOnly = true)
+    public void export(Long userId, DataFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<ExportRow> rows = projectRepository.streamExportRowsByUserId(userId)) {
+            if (format == DataFormat.CSV) {
+                writeCsv(rows, outputStream);
+            } else {
+                writeNdjson(rows, userId, outputStream);
+            }
+        }
+    }
+
+    // A project line precedes its task lines: {"type":"project","project":{...}} then {"type":"task","task":{...}}
+    private void writeNdjson(Stream<ExportRow> rows, Long userId, OutputStream outputStream) {
+        // Left open: the caller owns the stream and may still have to finish a compressor around it
+        try (JsonGenerator generator = jsonMapper.writer()
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .createGenerator(outputStream)) {
+            Long[] currentProject = {null};
+            rows.forEach(row -> {
+                if (!Objects.equals(currentProject[0], row.getProjectId())) {
+                    currentProject[0] = row.getProjectId();
+                    writeLine(generator, "project", new ProjectResponse(row.getProjectId(), row.getProjectTitle(),
+                            row.getProjectDescription(), userId, row.getProjectCreatedAt(), row.getProjectUpdatedAt()));
+                }
+                if (row.getTaskId() != null) {
+                    writeLine(generator, "task", new TaskResponse(row.getTaskId(), row.getTaskTitle(), row.getTaskDescription(),
+                            row.getTaskDueDate(), row.getTaskCompleted(), row.getProjectId(),
+                            row.getTaskCreatedAt(), row.getTaskUpdatedAt()));
+                }
+            });
+        }
+    }
+
+    private void writeLine(JsonGenerator generator, String type, Object value) {
+        generator.writeStartObject();
+        generator.writeStringProperty("type", type);
+        generator.writePOJOProperty(type, value);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    // One line per task, with its project's columns repeated; projects without tasks get empty task columns
+    private void writeCsv(Stream<ExportRow> rows, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        StringBuilder line = new StringBuilder(256);
+        for (ExportRow row : (Iterable<ExportRow>) rows::iterator) {
+            line.setLength(0);
+            appendCsv(line, row.getProjectId()).append(',');
+            appendCsv(line, row.getProjectTitle()).append(',');
+            appendCsv(line, row.getProjectDescription()).append(',');
+            appendCsv(line, row.getProjectCreatedAt()).append(',');
+            appendCsv(line, row.getProjectUpdatedAt()).append(',');
+            appendCsv(line, row.getTaskId()).append(',');
+            appendCsv(line, row.getTaskTitle()).append(',');
+            appendCsv(line, row.getTaskDescription()).append(',');
+            appendCsv(line, row.getTaskDueDate()).append(',');
+            appendCsv(line, row.getTaskCompleted()).append(',');
+            appendCsv(line, row.getTaskCreatedAt()).append(',');
+            appendCsv(line, row.getTaskUpdatedAt()).append('\n');
+            writer.append(line);
+        }
+        writer.flush();
+    }
+
+    // RFC 4180: quote fields containing a separator, quote or line break, and double embedded quotes
+    static StringBuilder appendCsv(StringBuilder line, Object value) {
+        if (value == null) {
+            return line;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return line.append(text);
+        }
+        return line.append('"').append(text.replace("\"", "\"\"")).append('"');
+    }
+}
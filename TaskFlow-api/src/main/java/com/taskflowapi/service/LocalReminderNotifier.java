@@ -0,0 +1,45 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.dto.ReminderDigest;
+import com.taskflowapi.dto.TaskReminder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Logs each digest and, when a file is configured, appends it there as one JSON line; meant for development and tests
+public class LocalReminderNotifier implements ReminderNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalReminderNotifier.class);
+
+    private final JsonMapper jsonMapper;
+    private final Path file;
+
+    public LocalReminderNotifier(JsonMapper jsonMapper, Path file) {
+        this.jsonMapper = jsonMapper;
+        this.file = file;
+    }
+
+    @Override
+    public void send(ReminderDigest digest) {
+        long overdue = digest.getReminders().stream().filter(r -> r.getType() == TaskReminder.Type.OVERDUE).count();
+        log.info("Reminder digest for user {} <{}>: {} due soon, {} overdue",
+                digest.getUserId(), digest.getEmail(), digest.getReminders().size() - overdue, overdue);
+        if (file == null) {
+            return;
+        }
+        String line = jsonMapper.writeValueAsString(digest) + "\n";
+        synchronized (this) {
+            try {
+                Files.writeString(file, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                log.warn("Could not write reminder digest to {}: {}", file, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ProjectCounterRepairService implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectCounterRepairService.class);
+
+    private static final int CHUNK_SIZE = 500;
+
+    // One row per one-time data backfill that has completed on this database
+    static final String BACKFILL_TABLE = "taskflow_backfills";
+    static final String COUNTERS_BACKFILL = "project_task_counters";
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${taskflow.counters.repair-on-startup:false}")
+    private boolean repairOnStartup;
+
+    // Projects created before the counter columns existed got 0 for both. Backfill them once per database, after the
+    // schema update but before the web server starts, so no request reads or decrements a counter that was never set
+    @Override
+    public void afterSingletonsInstantiated() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + BACKFILL_TABLE +
+                " (name VARCHAR(100) NOT NULL PRIMARY KEY, completed_at TIMESTAMP NOT NULL)");
+        Integer done = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + BACKFILL_TABLE + " WHERE name = ?", Integer.class, COUNTERS_BACKFILL);
+        if (done != null && done > 0) {
+            return;
+        }
+        log.info("Backfilling project task counters before accepting requests");
+        repairCounters();
+        try {
+            jdbcTemplate.update("INSERT INTO " + BACKFILL_TABLE + " (name, completed_at) VALUES (?, CURRENT_TIMESTAMP)",
+                    COUNTERS_BACKFILL);
+        } catch (DuplicateKeyException e) {
+            // Another node finished the same backfill first
+        }
+    }
+
+    // Opt-in extra repair on a start, e.g. after counters were changed by hand. It runs in the background, so neither
+    // startup nor readiness waits for a scan of the whole projects table
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairOnStartup() {
+        if (repairOnStartup) {
+            taskScheduler.schedule(this::repairCounters, Instant.now());
+        }
+    }
+
+    @Scheduled(cron = "${taskflow.counters.repair-cron:0 30 3 * * *}")
+    public void scheduledRepair() {
+        repairCounters();
+    }
+
+    /**
+     * Recomputes the task counters of every project whose stored values no longer match the tasks table.
+     * Projects are scanned in id order, one short transaction per chunk, so the job never holds long locks.
+     *
+     * @return ids of the projects that had drifted and were repaired
+     */
+    public List<Long> repairCounters() {
+        List<Long> repaired = new ArrayList<>();
+        Long afterId = 0L;
+        while (true) {
+            List<Long> ids = projectRepository.findIdsAfter(afterId, PageRequest.ofSize(CHUNK_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<Long> drifted = transactionTemplate.execute(status -> {
+                List<Long> found = projectRepository.findIdsWithCounterDrift(ids);
+                found.forEach(projectRepository::recomputeTaskCounters);
+                return found;
+            });
+            repaired.addAll(drifted);
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        if (repaired.isEmpty()) {
+            log.info("Project task counters checked, no drift found");
+        } else {
+            log.warn("Repaired task counters for {} project(s) with drift: {}", repaired.size(), repaired);
+        }
+        return repaired;
+    }
+}
@@ -0,0 +1,111 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.dto.ProjectDeletionResponse;
+import com.taskflowapi.exception.ResourceNotFoundException;
+import com.taskflowapi.repository.ProjectRepository;
+import com.taskflowapi.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Purges projects that {@link ProjectService#deleteProject} hid instead of deleting inline. Tasks go in chunks of
+ * {@code taskflow.deletion.chunk-size}, one short transaction each, so a project with 100k tasks never holds locks on
+ * all of them at once; the project row is removed with the last chunk. Runs on every node: nodes racing on the same
+ * project delete disjoint or already-deleted rows, which is harmless.
+ */
+@Service
+public class ProjectDeletionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectDeletionService.class);
+
+    // Projects picked up per run; the rest wait for the next run
+    private static final int PROJECTS_PER_RUN = 100;
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    public ProjectDeletionService(
+            ProjectRepository projectRepository,
+            TaskRepository taskRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${taskflow.deletion.enabled:true}") boolean enabled,
+            @Value("${taskflow.deletion.chunk-size:1000}") int chunkSize
+    ) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.deletion.interval:10s}", initialDelayString = "${taskflow.deletion.initial-delay:30s}")
+    public void scheduledRun() {
+        if (enabled) {
+            purgeDeletedProjects();
+        }
+    }
+
+    /**
+     * Purges projects pending deletion, oldest first.
+     *
+     * @return number of projects removed
+     */
+    public int purgeDeletedProjects() {
+        List<Long> projectIds = projectRepository.findDeletedIds(PROJECTS_PER_RUN);
+        for (Long projectId : projectIds) {
+            long tasks = purgeProject(projectId);
+            log.info("Purged deleted project {} and its {} task(s)", projectId, tasks);
+        }
+        return projectIds.size();
+    }
+
+    /**
+     * Deletes the tasks of a hidden project chunk by chunk, then the project itself.
+     *
+     * @return number of tasks deleted
+     */
+    public long purgeProject(Long projectId) {
+        long deleted = 0;
+        while (true) {
+            Integer removed = transactionTemplate.execute(status -> {
+                List<Long> taskIds = taskRepository.findIdsByProjectId(projectId, PageRequest.ofSize(chunkSize));
+                if (taskIds.isEmpty()) {
+                    projectRepository.purgeDeleted(projectId);
+                    return 0;
+                }
+                taskRepository.deleteAllByIdInBatch(taskIds);
+                return taskIds.size();
+            });
+            if (removed == 0) {
+                return deleted;
+            }
+            deleted += removed;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectDeletionResponse getDeletionProgress(Long projectId, Long userId) {
+        // Gone once the purge has finished, like any other deleted project
+        long countedTasks = projectRepository.findDeletedTotalTasks(projectId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project deletion not found"));
+
+        long remainingTasks = taskRepository.countByProjectId(projectId);
+        // The counter can be behind the tasks table; never report fewer tasks than are still there
+        long totalTasks = Math.max(countedTasks, remainingTasks);
+        long deletedTasks = Math.max(totalTasks - remainingTasks, 0);
+        double progressPercentage = totalTasks > 0 ? (deletedTasks * 100.0 / totalTasks) : 100.0;
+        return new ProjectDeletionResponse(projectId, totalTasks, remainingTasks,
+                Math.round(progressPercentage * 100.0) / 100.0);
+    }
+}
@@ -1,8 +1,10 @@
 package com.taskflowapi.service;
 
+import com.taskflowapi.dto.ChangeEvent;
 import com.taskflowapi.dto.ProjectProgressResponse;
 import com.taskflowapi.dto.ProjectRequest;
 import com.taskflowapi.dto.ProjectResponse;
+import com.taskflowapi.dto.ResourceVersion;
 import com.taskflowapi.entity.Project;
 import com.taskflowapi.entity.User;
 import com.taskflowapi.exception.ResourceNotFoundException;
@@ -10,20 +12,30 @@ import com.taskflowapi.exception.UnauthorizedException;
 import com.taskflowapi.repository.ProjectRepository;
 import com.taskflowapi.repository.TaskRepository;
 import com.taskflowapi.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
+@Timed("taskflow.service")
 @RequiredArgsConstructor
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Projects with more tasks than one purge chunk are deleted in the background instead of inline
+    @Value("${taskflow.deletion.chunk-size:1000}")
+    private int deletionChunkSize;
 
     @Transactional
     public ProjectResponse createProject(ProjectRequest request, Long userId) {
@@ -36,17 +48,23 @@ public class ProjectService {
         project.setUser(user);
 
         Project savedProject = projectRepository.save(project);
-        return mapToResponse(savedProject);
+        ProjectResponse response = mapToResponse(savedProject);
+        eventPublisher.publishEvent(ChangeEvent.ofProject(ChangeEvent.Type.PROJECT_CREATED, userId, response));
+        return response;
     }
 
     @Transactional(readOnly = true)
     public List<ProjectResponse> getUserProjects(Long userId) {
-        return projectRepository.findByUserId(userId)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return projectRepository.findResponsesByUserId(userId);
+    }
+
+    // One aggregate over the user's projects, so conditional GETs can skip loading them
+    @Transactional(readOnly = true)
+    public ResourceVersion getUserProjectsVersion(Long userId) {
+        return projectRepository.findVersionByUserId(userId);
     }
 
+    // Entity read on purpose: the project and the ownership lookup come from the second-level cache
     @Transactional(readOnly = true)
     public ProjectResponse getProjectById(Long projectId, Long userId) {
         Project project = projectRepository.findByIdAndUserId(projectId, userId)
@@ -54,6 +72,15 @@ public class ProjectService {
         return mapToResponse(project);
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion getProjectVersion(Long projectId, Long userId) {
+        ResourceVersion version = projectRepository.findVersionByIdAndUserId(projectId, userId);
+        if (version.getCount() == 0) {
+            throw new ResourceNotFoundException("Project not found");
+        }
+        return version;
+    }
+
     @Transactional
     public ProjectResponse updateProject(Long projectId, ProjectRequest request, Long userId) {
         Project project = projectRepository.findByIdAndUserId(projectId, userId)
@@ -63,15 +90,37 @@ public class ProjectService {
         project.setDescription(request.getDescription());
 
         Project saved = projectRepository.save(project);
-        return mapToResponse(saved);
+        ProjectResponse response = mapToResponse(saved);
+        eventPublisher.publishEvent(ChangeEvent.ofProject(ChangeEvent.Type.PROJECT_UPDATED, userId, response));
+        return response;
     }
 
+    /**
+     * Deletes a project and its tasks with set-based statements. A project small enough for one purge chunk is gone
+     * when this returns; a larger one is only hidden, and {@link ProjectDeletionService} removes its tasks in chunks.
+     *
+     * @return true if the deletion continues in the background
+     */
     @Transactional
-    public void deleteProject(Long projectId, Long userId) {
+    public boolean deleteProject(Long projectId, Long userId) {
         // Idempotent: if not found for this user, treat as already deleted
-        projectRepository.findByIdAndUserId(projectId, userId)
-                .ifPresent(projectRepository::delete);
-        // Tasks are deleted automatically due to cascade = ALL and orphanRemoval = true on Project.tasks
+        Project project = projectRepository.findByIdAndUserId(projectId, userId).orElse(null);
+        if (project == null) {
+            return false;
+        }
+
+        // Probes the tasks table rather than the project's counter, which can be behind (e.g. rows written by hand),
+        // so a large project is never deleted with one unbounded statement
+        boolean deferred = taskRepository.findIdsByProjectId(projectId, PageRequest.ofSize(deletionChunkSize + 1))
+                .size() > deletionChunkSize;
+        if (deferred) {
+            projectRepository.markDeleted(projectId, LocalDateTime.now());
+        } else {
+            taskRepository.deleteAllByProjectId(projectId);
+            projectRepository.delete(project);
+        }
+        eventPublisher.publishEvent(ChangeEvent.ofIds(ChangeEvent.Type.PROJECT_DELETED, userId, projectId, null));
+        return deferred;
     }
 
     @Transactional(readOnly = true)
@@ -79,8 +128,9 @@ public class ProjectService {
         Project project = projectRepository.findByIdAndUserId(projectId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
 
-        long totalTasks = taskRepository.countByProjectId(projectId);
-        long completedTasks = taskRepository.countCompletedByProjectId(projectId);
+        // Counters are maintained on the project row by TaskService, so progress is a primary-key read
+        long totalTasks = project.getTotalTasks();
+        long completedTasks = project.getCompletedTasks();
         double progressPercentage = totalTasks > 0 ? (completedTasks * 100.0 / totalTasks) : 0.0;
 
         return new ProjectProgressResponse(
@@ -0,0 +1,12 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.dto.ReminderDigest;
+
+/**
+ * Delivers reminder digests (e-mail, push, ...). Declaring a bean of this type replaces the default
+ * {@link LocalReminderNotifier}. A digest is handed over once, after its reminders have been claimed.
+ */
+public interface ReminderNotifier {
+
+    void send(ReminderDigest digest);
+}
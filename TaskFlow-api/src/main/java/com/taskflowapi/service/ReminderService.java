@@ -0,0 +1,120 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.dto.ReminderDigest;
+import com.taskflowapi.dto.TaskReminder;
+import com.taskflowapi.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Sends due-soon and overdue reminders for open tasks. Each run scans only the due-date window around today through
+ * the (is_completed, due_date) index, claims candidates in chunks with {@code FOR UPDATE SKIP LOCKED} and records the
+ * reminder stage on the task in the same transaction. Nodes running concurrently therefore split the work instead of
+ * repeating it. Digests go out after the claim commits, so a crash in between loses those reminders rather than
+ * sending them twice.
+ */
+@Service
+public class ReminderService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReminderService.class);
+
+    private final TaskRepository taskRepository;
+    private final ReminderNotifier notifier;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int leadDays;
+    private final int overdueLookbackDays;
+    private final int chunkSize;
+
+    public ReminderService(
+            TaskRepository taskRepository,
+            ReminderNotifier notifier,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.reminders.enabled:true}") boolean enabled,
+            @Value("${taskflow.reminders.lead-days:1}") int leadDays,
+            @Value("${taskflow.reminders.overdue-lookback-days:7}") int overdueLookbackDays,
+            @Value("${taskflow.reminders.chunk-size:1000}") int chunkSize
+    ) {
+        this.taskRepository = taskRepository;
+        this.notifier = notifier;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.leadDays = leadDays;
+        this.overdueLookbackDays = overdueLookbackDays;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.reminders.interval:5m}", initialDelayString = "${taskflow.reminders.initial-delay:1m}")
+    public void scheduledRun() {
+        if (enabled) {
+            sendReminders(LocalDate.now());
+        }
+    }
+
+    /**
+     * Claims and sends every reminder that is due on the given day and not sent yet.
+     *
+     * @return number of reminders sent
+     */
+    public long sendReminders(LocalDate today) {
+        // Overdue first, so a task that was never reminded and is already late gets one overdue reminder, not two
+        long overdue = sendStage(TaskReminder.Type.OVERDUE, today.minusDays(overdueLookbackDays), today.minusDays(1));
+        long dueSoon = sendStage(TaskReminder.Type.DUE_SOON, today, today.plusDays(leadDays));
+        if (overdue + dueSoon > 0) {
+            log.info("Sent {} due-soon and {} overdue reminder(s)", dueSoon, overdue);
+        }
+        return overdue + dueSoon;
+    }
+
+    private long sendStage(TaskReminder.Type type, LocalDate from, LocalDate to) {
+        long sent = 0;
+        while (true) {
+            List<TaskReminder> claimed = transactionTemplate.execute(status -> {
+                List<Long> ids = taskRepository.lockReminderCandidates(from, to, type.getStage(), chunkSize);
+                if (ids.isEmpty()) {
+                    return List.<TaskReminder>of();
+                }
+                taskRepository.markReminderStage(ids, type.getStage());
+                return taskRepository.findRemindersByIdIn(ids);
+            });
+            if (claimed.isEmpty()) {
+                return sent;
+            }
+            claimed.forEach(reminder -> reminder.setType(type));
+            digestsByUser(claimed).forEach(this::deliver);
+            meterRegistry.counter("taskflow.reminders.sent", "type", type.name()).increment(claimed.size());
+            sent += claimed.size();
+        }
+    }
+
+    private List<ReminderDigest> digestsByUser(List<TaskReminder> reminders) {
+        Map<Long, List<TaskReminder>> byUser = reminders.stream()
+                .collect(Collectors.groupingBy(TaskReminder::getUserId, LinkedHashMap::new, Collectors.toList()));
+        return byUser.values().stream()
+                .map(list -> new ReminderDigest(list.get(0).getUserId(), list.get(0).getUserEmail(), list.get(0).getUserName(), list))
+                .toList();
+    }
+
+    // One failing delivery must not hold back the other users' digests
+    private void deliver(ReminderDigest digest) {
+        try {
+            notifier.send(digest);
+        } catch (RuntimeException e) {
+            log.warn("Reminder digest for user {} could not be delivered: {}", digest.getUserId(), e.getMessage());
+        }
+    }
+}
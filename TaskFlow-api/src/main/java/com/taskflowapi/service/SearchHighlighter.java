@@ -0,0 +1,68 @@
+package com.taskflowapi.service;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+
+// Marks search terms in task text for display; everything outside the <mark> tags is HTML-escaped
+final class SearchHighlighter {
+
+    static final String OPEN = "<mark>";
+    static final String CLOSE = "</mark>";
+    static final String ELLIPSIS = "…";
+
+    private SearchHighlighter() {
+    }
+
+    static String highlight(String text, List<String> terms) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        int plainStart = 0;
+        int i = 0;
+        while (i < text.length()) {
+            int length = longestMatchAt(text, i, terms);
+            if (length == 0) {
+                i++;
+                continue;
+            }
+            out.append(HtmlUtils.htmlEscape(text.substring(plainStart, i)))
+                    .append(OPEN)
+                    .append(HtmlUtils.htmlEscape(text.substring(i, i + length)))
+                    .append(CLOSE);
+            i += length;
+            plainStart = i;
+        }
+        return out.append(HtmlUtils.htmlEscape(text.substring(plainStart))).toString();
+    }
+
+    // Up to maxLength characters of text, starting shortly before the first match
+    static String snippet(String text, List<String> terms, int maxLength) {
+        if (text == null || text.length() <= maxLength) {
+            return highlight(text, terms);
+        }
+        int first = 0;
+        while (first < text.length() && longestMatchAt(text, first, terms) == 0) {
+            first++;
+        }
+        if (first == text.length()) {
+            first = 0;
+        }
+        int end = Math.min(text.length(), Math.max(first - maxLength / 4, 0) + maxLength);
+        int start = Math.max(0, end - maxLength);
+        return (start > 0 ? ELLIPSIS : "")
+                + highlight(text.substring(start, end), terms)
+                + (end < text.length() ? ELLIPSIS : "");
+    }
+
+    private static int longestMatchAt(String text, int index, List<String> terms) {
+        int longest = 0;
+        for (String term : terms) {
+            if (term.length() > longest && text.regionMatches(true, index, term, 0, term.length())) {
+                longest = term.length();
+            }
+        }
+        return longest;
+    }
+}
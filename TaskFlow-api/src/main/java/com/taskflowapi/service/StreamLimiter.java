@@ -0,0 +1,91 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits streamed responses that read from a database cursor. Each one holds a pooled connection for as long as the
+ * client takes to read the body, after the request thread is gone, so at most {@code max-concurrent} run at once and
+ * the rest of the pool stays with ordinary requests; more are refused with 429. Each stream also gets its own async
+ * timeout, since the container's default (about 30s) would cut a large body off partway.
+ */
+@Component
+public class StreamLimiter {
+
+    public static final String METRIC = "taskflow.streaming";
+
+    private static final long SATURATED_RETRY_AFTER_SECONDS = 5;
+
+    private final Semaphore permits;
+    private final Duration defaultTimeout;
+    private final Counter rejected;
+
+    public StreamLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.streaming.max-concurrent:4}") int maxConcurrent,
+            @Value("${taskflow.streaming.timeout:10m}") Duration defaultTimeout
+    ) {
+        this.permits = new Semaphore(maxConcurrent);
+        this.defaultTimeout = defaultTimeout;
+
+        Gauge.builder(METRIC + ".active", permits, p -> maxConcurrent - p.availablePermits())
+                .description("Streamed responses holding a connection")
+                .register(meterRegistry);
+        this.rejected = Counter.builder(METRIC + ".rejected")
+                .description("Streamed responses refused because max-concurrent were already running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Same as {@link #limit(StreamingResponseBody, Duration, WebRequest)} with {@code taskflow.streaming.timeout}.
+     */
+    public StreamingResponseBody limit(StreamingResponseBody body, WebRequest webRequest) {
+        return limit(body, defaultTimeout, webRequest);
+    }
+
+    /**
+     * Takes a permit for the stream and sets the request's async timeout (zero for none). The permit goes back when
+     * the body is written, or when the request completes without writing it (timeout, client gone).
+     *
+     * @throws TooManyRequestsException if {@code max-concurrent} streams are already running
+     */
+    public StreamingResponseBody limit(StreamingResponseBody body, Duration timeout, WebRequest webRequest) {
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            throw new TooManyRequestsException("Too many streamed responses in progress, please retry",
+                    SATURATED_RETRY_AFTER_SECONDS);
+        }
+        AtomicBoolean held = new AtomicBoolean(true);
+        Runnable release = () -> {
+            if (held.compareAndSet(true, false)) {
+                permits.release();
+            }
+        };
+
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.getAsyncManager(webRequest).getAsyncWebRequest();
+        if (asyncWebRequest != null) {
+            // Read by the async manager when it starts async processing for the returned body
+            asyncWebRequest.setTimeout(timeout.toMillis());
+            asyncWebRequest.addCompletionHandler(release);
+        }
+        return outputStream -> {
+            try {
+                body.writeTo(outputStream);
+            } finally {
+                release.run();
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.dto.TaskResponse;
+import com.taskflowapi.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// Opaque keyset cursor: the sort field plus the (sort key, id) of the last row returned
+@Getter
+@AllArgsConstructor
+class TaskCursor {
+
+    static final String SORT_DUE_DATE = "dueDate";
+    static final String SORT_CREATED_AT = "createdAt";
+
+    private final String sort;
+    private final String key; // empty when the last row had no due date
+    private final Long id;
+
+    static TaskCursor after(String sort, TaskResponse task) {
+        Object key = SORT_CREATED_AT.equals(sort) ? task.getCreatedAt() : task.getDueDate();
+        return new TaskCursor(sort, key != null ? key.toString() : "", task.getId());
+    }
+
+    static TaskCursor decode(String cursor, String expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !parts[0].equals(expectedSort)) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            TaskCursor decoded = new TaskCursor(parts[0], parts[1], Long.parseLong(parts[2]));
+            // Fail fast on a malformed key rather than inside the query
+            decoded.dueDate();
+            decoded.createdAt();
+            return decoded;
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = sort + "|" + key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    LocalDate dueDate() {
+        return SORT_DUE_DATE.equals(sort) && !key.isEmpty() ? LocalDate.parse(key) : null;
+    }
+
+    LocalDateTime createdAt() {
+        return SORT_CREATED_AT.equals(sort) && !key.isEmpty() ? LocalDateTime.parse(key) : null;
+    }
+}
@@ -0,0 +1,276 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.dto.ChangeEvent;
+import com.taskflowapi.dto.TaskImportError;
+import com.taskflowapi.dto.TaskImportResponse;
+import com.taskflowapi.dto.TaskRequest;
+import com.taskflowapi.entity.Project;
+import com.taskflowapi.entity.Task;
+import com.taskflowapi.exception.BadRequestException;
+import com.taskflowapi.repository.ProjectRepository;
+import com.taskflowapi.repository.TaskRepository;
+import com.taskflowapi.util.CsvRecordReader;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Imports tasks from an NDJSON or CSV request body while it is still being received. Valid rows are inserted in
+ * chunks, each in its own transaction; invalid rows and failed chunks are reported without stopping the import.
+ */
+@Service
+@Timed("taskflow.service")
+public class TaskImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportService.class);
+
+    // Well above the TaskRequest limits, so oversized values still fail validation rather than being silently cut
+    private static final int MAX_FIELD_LENGTH = 10_000;
+    private static final int MAX_LINE_LENGTH = 3 * MAX_FIELD_LENGTH;
+
+    private static final String INSERT_FAILED_MESSAGE = "Could not be saved, please retry";
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectService projectService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public TaskImportService(
+            TaskRepository taskRepository,
+            ProjectRepository projectRepository,
+            ProjectService projectService,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            Validator validator,
+            JsonMapper jsonMapper,
+            @Value("${taskflow.import.batch-size:1000}") int batchSize,
+            @Value("${taskflow.import.max-reported-errors:1000}") int maxReportedErrors
+    ) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.projectService = projectService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.jsonMapper = jsonMapper;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public TaskImportResponse importTasks(Long projectId, Long userId, DataFormat format, InputStream body) throws IOException {
+        projectService.validateUserOwnsProject(projectId, userId);
+
+        long started = System.nanoTime();
+        Import run = new Import(projectId, userId);
+        Reader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        if (format == DataFormat.CSV) {
+            readCsv(reader, run);
+        } else {
+            readNdjson(reader, run);
+        }
+        run.flush();
+
+        long durationMillis = Math.max((System.nanoTime() - started) / 1_000_000, 1);
+        long rows = run.imported + run.failed;
+        return new TaskImportResponse(
+                run.imported,
+                run.failed,
+                run.errors,
+                run.failed > run.errors.size(),
+                durationMillis,
+                Math.round(rows * 1000.0 / durationMillis * 10) / 10.0
+        );
+    }
+
+    private void readNdjson(Reader reader, Import run) throws IOException {
+        StringBuilder line = new StringBuilder();
+        long lineNumber = 0;
+        int c;
+        do {
+            c = reader.read();
+            if (c == '\n' || c == -1) {
+                lineNumber++;
+                if (!line.toString().isBlank()) {
+                    parseJsonLine(line, lineNumber, run);
+                }
+                line.setLength(0);
+            } else if (line.length() < MAX_LINE_LENGTH) {
+                line.append((char) c);
+            } else if (line.length() == MAX_LINE_LENGTH) {
+                line.append('\u0000'); // marks the line as oversized; the rest is skipped
+            }
+        } while (c != -1);
+    }
+
+    private void parseJsonLine(StringBuilder line, long lineNumber, Import run) {
+        if (line.length() > MAX_LINE_LENGTH) {
+            run.reject(lineNumber, List.of("Line exceeds " + MAX_LINE_LENGTH + " characters"));
+            return;
+        }
+        TaskRequest request;
+        try {
+            request = jsonMapper.readValue(line.toString(), TaskRequest.class);
+        } catch (JacksonException e) {
+            run.reject(lineNumber, List.of("Malformed JSON: " + e.getOriginalMessage()));
+            return;
+        }
+        run.accept(lineNumber, request);
+    }
+
+    private void readCsv(Reader reader, Import run) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader, MAX_FIELD_LENGTH);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        int titleColumn = -1;
+        int descriptionColumn = -1;
+        int dueDateColumn = -1;
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT);
+            switch (name) {
+                case "title" -> titleColumn = i;
+                case "description" -> descriptionColumn = i;
+                case "duedate" -> dueDateColumn = i;
+                default -> {
+                    // Unknown columns are ignored, so an export's CSV can be imported as is
+                }
+            }
+        }
+        if (titleColumn < 0) {
+            throw new BadRequestException("CSV header must contain a title column");
+        }
+
+        long recordNumber = 0;
+        List<String> record;
+        while ((record = csv.next()) != null) {
+            recordNumber++;
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            String dueDate = column(record, dueDateColumn);
+            LocalDate parsedDueDate = null;
+            if (dueDate != null) {
+                try {
+                    parsedDueDate = LocalDate.parse(dueDate.trim());
+                } catch (DateTimeParseException e) {
+                    run.reject(recordNumber, List.of("Due date must be an ISO date (yyyy-MM-dd): " + dueDate));
+                    continue;
+                }
+            }
+            run.accept(recordNumber, new TaskRequest(column(record, titleColumn), column(record, descriptionColumn), parsedDueDate));
+        }
+    }
+
+    // Empty cells are treated as absent values
+    private String column(List<String> record, int index) {
+        if (index < 0 || index >= record.size() || record.get(index).isEmpty()) {
+            return null;
+        }
+        return record.get(index);
+    }
+
+    // State of one import: the pending chunk and the running totals
+    private final class Import {
+
+        private final Long projectId;
+        private final Long userId;
+        private final List<TaskRequest> chunk = new ArrayList<>(batchSize);
+        private final List<Long> chunkRows = new ArrayList<>(batchSize);
+        private final List<TaskImportError> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        private Import(Long projectId, Long userId) {
+            this.projectId = projectId;
+            this.userId = userId;
+        }
+
+        private void accept(long row, TaskRequest request) {
+            Set<ConstraintViolation<TaskRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                reject(row, violations.stream()
+                        .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                        .map(ConstraintViolation::getMessage)
+                        .toList());
+                return;
+            }
+            chunk.add(request);
+            chunkRows.add(row);
+            if (chunk.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void reject(long row, List<String> messages) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new TaskImportError(row, messages));
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertChunk());
+                imported += chunk.size();
+            } catch (RuntimeException e) {
+                // The chunk was rolled back as a whole; report its rows and carry on with the next one. The cause
+                // stays in the log, since database messages carry SQL and schema details
+                log.warn("Import chunk of rows {}-{} into project {} failed", chunkRows.get(0),
+                        chunkRows.get(chunkRows.size() - 1), projectId, e);
+                chunkRows.forEach(row -> reject(row, List.of(INSERT_FAILED_MESSAGE)));
+            }
+            chunk.clear();
+            chunkRows.clear();
+        }
+
+        private void insertChunk() {
+            Project project = projectRepository.getReferenceById(projectId);
+            List<Task> tasks = new ArrayList<>(chunk.size());
+            for (TaskRequest request : chunk) {
+                Task task = new Task();
+                task.setTitle(request.getTitle());
+                task.setDescription(request.getDescription());
+                task.setDueDate(request.getDueDate());
+                task.setIsCompleted(false);
+                task.setProject(project);
+                tasks.add(task);
+            }
+            // Sequence ids let Hibernate send these as JDBC batches; the persistence context ends with the transaction
+            taskRepository.saveAll(tasks);
+            taskRepository.flush();
+            projectRepository.adjustTaskCounters(projectId, tasks.size(), 0);
+            eventPublisher.publishEvent(ChangeEvent.ofIds(ChangeEvent.Type.TASKS_CHANGED, userId, projectId, null));
+        }
+    }
+}
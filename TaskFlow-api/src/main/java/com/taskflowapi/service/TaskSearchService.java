@@ -0,0 +1,91 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.dto.TaskResponse;
+import com.taskflowapi.dto.TaskSearchHit;
+import com.taskflowapi.dto.TaskSearchRequest;
+import com.taskflowapi.dto.TaskSearchResponse;
+import com.taskflowapi.exception.BadRequestException;
+import com.taskflowapi.repository.TaskRepository;
+import com.taskflowapi.repository.TaskSearchRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Timed("taskflow.service")
+@RequiredArgsConstructor
+public class TaskSearchService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 50;
+    // Ranked results can't be keyset-paginated, so the offset is bounded instead
+    public static final int MAX_RESULTS = 1000;
+
+    // InnoDB's default innodb_ft_min_token_size: shorter words are not in the full-text index
+    static final int MIN_TERM_LENGTH = 3;
+    static final int MAX_TERMS = 8;
+    static final int SNIPPET_LENGTH = 160;
+
+    private final TaskSearchRepository taskSearchRepository;
+    private final TaskRepository taskRepository;
+
+    @Transactional(readOnly = true)
+    public TaskSearchResponse search(TaskSearchRequest request, Long userId) {
+        List<String> terms = terms(request.getQ());
+        if (terms.isEmpty()) {
+            throw new BadRequestException("Search query needs at least one word of " + MIN_TERM_LENGTH + " or more characters");
+        }
+        int page = request.getPage() != null ? Math.max(request.getPage(), 0) : 0;
+        int limit = request.getLimit() != null ? Math.min(Math.max(request.getLimit(), 1), MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        int offset = page * limit;
+        if (offset + limit > MAX_RESULTS) {
+            throw new BadRequestException("Only the first " + MAX_RESULTS + " results can be paged through; refine the query");
+        }
+
+        // Fetch one extra match to know whether another page exists without a COUNT
+        List<TaskSearchRepository.Match> matches = taskSearchRepository.search(userId, terms, offset, limit + 1);
+        boolean hasMore = matches.size() > limit;
+        if (hasMore) {
+            matches = matches.subList(0, limit);
+        }
+
+        Map<Long, TaskResponse> tasks = taskRepository
+                .findResponsesByIdIn(matches.stream().map(TaskSearchRepository.Match::getTaskId).toList())
+                .stream()
+                .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+
+        List<TaskSearchHit> hits = matches.stream()
+                .filter(match -> tasks.containsKey(match.getTaskId()))
+                .map(match -> {
+                    TaskResponse task = tasks.get(match.getTaskId());
+                    return new TaskSearchHit(
+                            task,
+                            match.getScore(),
+                            SearchHighlighter.highlight(task.getTitle(), terms),
+                            SearchHighlighter.snippet(task.getDescription(), terms, SNIPPET_LENGTH)
+                    );
+                })
+                .collect(Collectors.toList());
+        return new TaskSearchResponse(hits, page, hasMore);
+    }
+
+    // Words of letters and digits; full-text operators and punctuation in the input are dropped
+    static List<String> terms(String query) {
+        if (query == null) {
+            return List.of();
+        }
+        return Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> term.length() >= MIN_TERM_LENGTH)
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+    }
+}
@@ -1,34 +1,63 @@
 package com.taskflowapi.service;
 
+import com.taskflowapi.dto.TaskBatchOperation;
+import com.taskflowapi.dto.TaskBatchRequest;
+import com.taskflowapi.dto.TaskBatchResponse;
+import com.taskflowapi.dto.TaskPageRequest;
+import com.taskflowapi.dto.ChangeEvent;
+import com.taskflowapi.dto.ResourceVersion;
+import com.taskflowapi.dto.TaskPageResponse;
 import com.taskflowapi.dto.TaskRequest;
 import com.taskflowapi.dto.TaskUpdateRequest;
 import com.taskflowapi.dto.TaskResponse;
 import com.taskflowapi.entity.Project;
 import com.taskflowapi.entity.Task;
+import com.taskflowapi.exception.BadRequestException;
 import com.taskflowapi.exception.ResourceNotFoundException;
+import com.taskflowapi.exception.UnauthorizedException;
 import com.taskflowapi.repository.ProjectRepository;
 import com.taskflowapi.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.taskflowapi.repository.TaskSpecifications.*;
 
 @Service
+@Timed("taskflow.service")
 @RequiredArgsConstructor
 public class TaskService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final ProjectService projectService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TaskResponse createTask(Long projectId, TaskRequest request, Long userId) {
         projectService.validateUserOwnsProject(projectId, userId);
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+        // Ownership was just checked, so a reference is enough to set the foreign key
+        Project project = projectRepository.getReferenceById(projectId);
 
         Task task = new Task();
         task.setTitle(request.getTitle());
@@ -38,55 +67,252 @@ public class TaskService {
         task.setProject(project);
 
         Task savedTask = taskRepository.save(task);
-        return mapToResponse(savedTask);
+        // Sequence ids defer the INSERT to commit; flush now so the response carries the generated timestamps
+        taskRepository.flush();
+        projectRepository.adjustTaskCounters(projectId, 1, 0);
+        TaskResponse response = mapToResponse(savedTask);
+        eventPublisher.publishEvent(ChangeEvent.ofTask(ChangeEvent.Type.TASK_CREATED, userId, response));
+        return response;
+    }
+
+    @Transactional
+    public TaskBatchResponse executeBatch(Long projectId, TaskBatchRequest request, Long userId) {
+        // Ownership is checked once for the whole batch and the project doubles as the parent of new tasks
+        Project project = projectRepository.findByIdAndUserId(projectId, userId)
+                .orElseThrow(() -> new UnauthorizedException("You don't have access to this project"));
+
+        List<TaskBatchOperation> operations = request.getOperations();
+        Set<Long> referencedIds = new HashSet<>();
+        for (int i = 0; i < operations.size(); i++) {
+            TaskBatchOperation operation = operations.get(i);
+            if (operation.getOp() == TaskBatchOperation.Type.CREATE) {
+                if (operation.getTitle() == null || operation.getTitle().isBlank()) {
+                    throw new BadRequestException("operations[" + i + "]: title is required");
+                }
+            } else if (operation.getTaskId() == null) {
+                throw new BadRequestException("operations[" + i + "]: taskId is required");
+            }
+            if (operation.getTaskId() != null) {
+                referencedIds.add(operation.getTaskId());
+            }
+        }
+
+        // One query for every existing task the batch touches, scoped to the already-validated project
+        Map<Long, Task> existing = referencedIds.isEmpty() ? new LinkedHashMap<>() : taskRepository
+                .findByProjectIdAndIdIn(projectId, referencedIds)
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<Task> created = new ArrayList<>();
+        List<Task> deleted = new ArrayList<>();
+        Map<Long, Task> modified = new LinkedHashMap<>();
+        int updatedCount = 0;
+        int toggledCount = 0;
+        long completedDelta = 0;
+
+        for (int i = 0; i < operations.size(); i++) {
+            TaskBatchOperation operation = operations.get(i);
+            switch (operation.getOp()) {
+                case CREATE -> {
+                    Task task = new Task();
+                    task.setTitle(operation.getTitle().trim());
+                    task.setDescription(operation.getDescription());
+                    task.setDueDate(operation.getDueDate());
+                    task.setIsCompleted(false);
+                    task.setProject(project);
+                    created.add(task);
+                }
+                case UPDATE -> {
+                    Task task = requireTask(existing, operation.getTaskId());
+                    if (operation.getTitle() != null) {
+                        String trimmed = operation.getTitle().trim();
+                        if (trimmed.isEmpty()) {
+                            throw new BadRequestException("operations[" + i + "]: title, if provided, must not be blank");
+                        }
+                        task.setTitle(trimmed);
+                    }
+                    if (operation.getDescription() != null) {
+                        task.setDescription(operation.getDescription());
+                    }
+                    modified.put(task.getId(), task);
+                    updatedCount++;
+                }
+                case TOGGLE -> {
+                    Task task = requireTask(existing, operation.getTaskId());
+                    task.setIsCompleted(!task.getIsCompleted());
+                    completedDelta += task.getIsCompleted() ? 1 : -1;
+                    modified.put(task.getId(), task);
+                    toggledCount++;
+                }
+                case DELETE -> {
+                    // Idempotent like deleteTask: unknown or already deleted ids are ignored
+                    Task task = existing.remove(operation.getTaskId());
+                    if (task != null) {
+                        modified.remove(task.getId());
+                        deleted.add(task);
+                        if (task.getIsCompleted()) {
+                            completedDelta--;
+                        }
+                    }
+                }
+            }
+        }
+
+        // Sequence-generated ids let Hibernate group these into JDBC batches at flush time
+        taskRepository.saveAll(created);
+        taskRepository.deleteAll(deleted);
+        taskRepository.flush();
+        long totalDelta = created.size() - deleted.size();
+        if (totalDelta != 0 || completedDelta != 0) {
+            projectRepository.adjustTaskCounters(projectId, totalDelta, completedDelta);
+        }
+        // One event for the whole batch; per-task events could flood every open stream
+        eventPublisher.publishEvent(ChangeEvent.ofIds(ChangeEvent.Type.TASKS_CHANGED, userId, projectId, null));
+
+        List<TaskResponse> results = new ArrayList<>(created.size() + modified.size());
+        created.forEach(task -> results.add(mapToResponse(task)));
+        modified.values().forEach(task -> results.add(mapToResponse(task)));
+
+        return new TaskBatchResponse(created.size(), updatedCount, toggledCount, deleted.size(), results);
+    }
+
+    // Ownership check and version in one aggregate, so conditional GETs can skip loading the tasks
+    @Transactional(readOnly = true)
+    public ResourceVersion getProjectTasksVersion(Long projectId, Long userId) {
+        return taskRepository.findVersionByProjectIdAndUserId(projectId, userId)
+                .orElseThrow(() -> new UnauthorizedException("You don't have access to this project"));
     }
 
     @Transactional(readOnly = true)
     public List<TaskResponse> getProjectTasks(Long projectId, Long userId) {
         projectService.validateUserOwnsProject(projectId, userId);
 
-        return taskRepository.findByProjectId(projectId)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return taskRepository.findResponsesByProjectId(projectId);
+    }
+
+    // The cursor is only open inside this transaction, so rows are handed to the caller one at a time
+    @Transactional(readOnly = true)
+    public void forEachProjectTask(Long projectId, Long userId, Consumer<TaskResponse> consumer) {
+        try (Stream<TaskResponse> tasks = taskRepository.streamResponsesByProjectIdAndUserId(projectId, userId)) {
+            tasks.forEach(consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPageResponse getProjectTasksPage(Long projectId, TaskPageRequest request, Long userId) {
+        projectService.validateUserOwnsProject(projectId, userId);
+
+        String sort = request.getSort() != null ? request.getSort() : TaskCursor.SORT_DUE_DATE;
+        if (!TaskCursor.SORT_DUE_DATE.equals(sort) && !TaskCursor.SORT_CREATED_AT.equals(sort)) {
+            throw new BadRequestException("Unsupported sort: " + sort);
+        }
+        int limit = request.getLimit() != null ? Math.min(Math.max(request.getLimit(), 1), MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        TaskCursor cursor = request.getCursor() != null && !request.getCursor().isBlank()
+                ? TaskCursor.decode(request.getCursor(), sort)
+                : null;
+
+        Specification<Task> filters = inProject(projectId)
+                .and(completed(request.getCompleted()))
+                .and(dueOnOrAfter(request.getDueFrom()))
+                .and(dueOnOrBefore(request.getDueTo()));
+
+        // Fetch one extra row to know whether another page exists without a COUNT
+        List<TaskResponse> rows = new ArrayList<>();
+        if (TaskCursor.SORT_CREATED_AT.equals(sort)) {
+            Specification<Task> after = cursor != null ? afterCreatedAt(cursor.createdAt(), cursor.getId()) : null;
+            rows.addAll(findSlice(after != null ? filters.and(after) : filters, Sort.by("createdAt", "id"), limit + 1));
+        } else {
+            // Dated tasks first in (due_date, id) order, then undated tasks in id order
+            boolean inUndatedSegment = cursor != null && cursor.dueDate() == null;
+            if (!inUndatedSegment) {
+                Specification<Task> after = cursor != null ? afterDueDate(cursor.dueDate(), cursor.getId()) : null;
+                Specification<Task> dated = filters.and(hasDueDate(true));
+                rows.addAll(findSlice(after != null ? dated.and(after) : dated, Sort.by("dueDate", "id"), limit + 1));
+            }
+            boolean rangeFiltered = request.getDueFrom() != null || request.getDueTo() != null;
+            if (rows.size() <= limit && !rangeFiltered) {
+                Specification<Task> undated = filters.and(hasDueDate(false));
+                if (inUndatedSegment) {
+                    undated = undated.and(afterId(cursor.getId()));
+                }
+                rows.addAll(findSlice(undated, Sort.by("id"), limit + 1 - rows.size()));
+            }
+        }
+
+        boolean hasMore = rows.size() > limit;
+        List<TaskResponse> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? TaskCursor.after(sort, page.get(page.size() - 1)).encode() : null;
+
+        return new TaskPageResponse(
+                new ArrayList<>(page),
+                nextCursor,
+                hasMore
+        );
     }
 
     @Transactional
     public TaskResponse toggleTaskCompletion(Long taskId, Long userId) {
-        Task task = taskRepository.findByIdAndUserId(taskId, userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        if (taskRepository.toggleCompletion(taskId, userId, LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("Task not found");
+        }
 
-        task.setIsCompleted(!task.getIsCompleted());
-        Task updatedTask = taskRepository.save(task);
-        return mapToResponse(updatedTask);
+        // The toggled row stays locked until commit, so this read and the counter adjustment see our own flip
+        TaskResponse response = findResponse(taskId, userId);
+        projectRepository.adjustTaskCounters(response.getProjectId(), 0, response.getIsCompleted() ? 1 : -1);
+        eventPublisher.publishEvent(ChangeEvent.ofTask(ChangeEvent.Type.TASK_TOGGLED, userId, response));
+        return response;
     }
 
     @Transactional
     public void deleteTask(Long taskId, Long userId) {
         // Make DELETE idempotent - if task doesn't exist, treat as already deleted
         taskRepository.findByIdAndUserId(taskId, userId)
-                .ifPresent(taskRepository::delete);
+                .ifPresent(task -> {
+                    taskRepository.delete(task);
+                    projectRepository.adjustTaskCounters(task.getProject().getId(), -1, task.getIsCompleted() ? -1 : 0);
+                    eventPublisher.publishEvent(ChangeEvent.ofIds(ChangeEvent.Type.TASK_DELETED, userId, task.getProject().getId(), taskId));
+                });
     }
 
     @Transactional
     public TaskResponse updateTask(Long taskId, TaskUpdateRequest request, Long userId) {
-        Task task = taskRepository.findByIdAndUserId(taskId, userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
-
+        String title = null;
         if (request.getTitle() != null) {
-            String trimmed = request.getTitle().trim();
-            if (trimmed.isEmpty()) {
+            title = request.getTitle().trim();
+            if (title.isEmpty()) {
                 throw new IllegalArgumentException("Title, if provided, must not be blank");
             }
-            task.setTitle(trimmed);
         }
 
-        if (request.getDescription() != null) {
-            task.setDescription(request.getDescription());
+        // Nothing to change: skip the write so updatedAt is left as is
+        boolean changed = title != null || request.getDescription() != null;
+        if (changed) {
+            if (taskRepository.updateDetails(taskId, userId, title, request.getDescription(), LocalDateTime.now()) == 0) {
+                throw new ResourceNotFoundException("Task not found");
+            }
+        }
+        TaskResponse response = findResponse(taskId, userId);
+        if (changed) {
+            eventPublisher.publishEvent(ChangeEvent.ofTask(ChangeEvent.Type.TASK_UPDATED, userId, response));
         }
+        return response;
+    }
+
+    private TaskResponse findResponse(Long taskId, Long userId) {
+        return taskRepository.findResponseByIdAndUserId(taskId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+    }
+
+    private Task requireTask(Map<Long, Task> tasks, Long taskId) {
+        Task task = tasks.get(taskId);
+        if (task == null) {
+            throw new ResourceNotFoundException("Task not found: " + taskId);
+        }
+        return task;
+    }
 
-        Task updatedTask = taskRepository.save(task);
-        return mapToResponse(updatedTask);
+    private List<TaskResponse> findSlice(Specification<Task> spec, Sort sort, int limit) {
+        return taskRepository.findResponses(spec, sort, limit);
     }
 
     private TaskResponse mapToResponse(Task task) {
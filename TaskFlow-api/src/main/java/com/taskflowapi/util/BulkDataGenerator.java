@@ -0,0 +1,376 @@
+package com.taskflowapi.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates a large synthetic dataset for load and scale testing; enable with the {@code seed-bulk} profile.
+ * <p>
+ * Rows are written with explicit ids through multi-row INSERTs, one chunk per worker task, so the volumes in
+ * {@code taskflow.seed.*} load in minutes. Everything is derived from {@code taskflow.seed.random-seed}, so two
+ * runs with the same settings produce the same data. Project task counters are written alongside the tasks.
+ * <p>
+ * It runs once the schema exists but before the web server starts, so no request writes while the id ranges are
+ * reserved and filled. Task ids come out of task_seq; user and project ids are reserved by moving AUTO_INCREMENT past
+ * the range before any row is written.
+ */
+@Component
+@Profile("seed-bulk")
+public class BulkDataGenerator implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkDataGenerator.class);
+
+    private static final String EMAIL_DOMAIN = "@load.taskflow.test";
+    private static final int USERS_PER_CHUNK = 10_000;
+    private static final int PROJECTS_PER_CHUNK = 2_000;
+    // MySQL's limit on placeholders in one prepared statement
+    private static final int MAX_PLACEHOLDERS = 65_535;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final TaskSequenceInitializer taskSequenceInitializer;
+    private final DataSeeder dataSeeder;
+
+    private final int users;
+    private final int projects;
+    private final long tasks;
+    private final int workers;
+    private final int rowsPerInsert;
+    private final long randomSeed;
+    private final String password;
+
+    public BulkDataGenerator(
+            JdbcTemplate jdbcTemplate,
+            PasswordEncoder passwordEncoder,
+            TaskSequenceInitializer taskSequenceInitializer,
+            DataSeeder dataSeeder,
+            @Value("${taskflow.seed.users:100000}") int users,
+            @Value("${taskflow.seed.projects:1000000}") int projects,
+            @Value("${taskflow.seed.tasks:50000000}") long tasks,
+            @Value("${taskflow.seed.workers:4}") int workers,
+            @Value("${taskflow.seed.rows-per-insert:1000}") int rowsPerInsert,
+            @Value("${taskflow.seed.random-seed:42}") long randomSeed,
+            @Value("${taskflow.seed.password:password123}") String password
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.taskSequenceInitializer = taskSequenceInitializer;
+        this.dataSeeder = dataSeeder;
+        this.users = users;
+        this.projects = projects;
+        this.tasks = tasks;
+        this.workers = workers;
+        this.rowsPerInsert = rowsPerInsert;
+        this.randomSeed = randomSeed;
+        this.password = password;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            generate();
+        } catch (Exception e) {
+            throw new IllegalStateException("Bulk data generation failed", e);
+        }
+    }
+
+    public void generate() throws Exception {
+        // DataSeeder only seeds an empty users table, and it would otherwise run after this, once the server is up
+        dataSeeder.run();
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, "user1" + EMAIL_DOMAIN);
+        if (existing != null && existing > 0) {
+            log.info("Synthetic dataset already present. Skipping bulk generation.");
+            return;
+        }
+
+        long start = System.nanoTime();
+
+        // One BCrypt hash shared by every generated user; hashing millions of passwords would dominate the run
+        String passwordHash = passwordEncoder.encode(password);
+
+        // Task counts are drawn up front so each chunk knows its task id range before workers start
+        int[] taskCounts = drawTaskCounts();
+        long totalTasks = 0;
+        for (int count : taskCounts) {
+            totalTasks += count;
+        }
+        long firstUserId = reserveIdentityRange("users", users);
+        long firstProjectId = reserveIdentityRange("projects", projects);
+        long firstTaskId = taskSequenceInitializer.reserveTaskIds(totalTasks);
+
+        int projectChunks = (projects + PROJECTS_PER_CHUNK - 1) / PROJECTS_PER_CHUNK;
+        long[] chunkFirstTaskId = new long[projectChunks];
+        long nextTaskId = firstTaskId;
+        for (int chunk = 0; chunk < projectChunks; chunk++) {
+            chunkFirstTaskId[chunk] = nextTaskId;
+            int end = Math.min(projects, (chunk + 1) * PROJECTS_PER_CHUNK);
+            for (int i = chunk * PROJECTS_PER_CHUNK; i < end; i++) {
+                nextTaskId += taskCounts[i];
+            }
+        }
+
+        log.info("Generating {} users, {} projects and {} tasks with {} workers...", users, projects, totalTasks, workers);
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int from = 0; from < users; from += USERS_PER_CHUNK) {
+                int chunkStart = from;
+                futures.add(executor.submit(() -> insertUsers(firstUserId, chunkStart,
+                        Math.min(users, chunkStart + USERS_PER_CHUNK), passwordHash)));
+            }
+            await(futures);
+            log.info("Users done after {} s", elapsedSeconds(start));
+
+            futures.clear();
+            for (int chunk = 0; chunk < projectChunks; chunk++) {
+                int chunkIndex = chunk;
+                futures.add(executor.submit(() -> insertProjectChunk(chunkIndex, firstUserId, firstProjectId,
+                        chunkFirstTaskId[chunkIndex], taskCounts)));
+            }
+            await(futures);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("Generated {} users, {} projects and {} tasks in {} s", users, projects, totalTasks, elapsedSeconds(start));
+    }
+
+    // Heavy-tailed: most projects are small, a few hold thousands of tasks; the mean matches taskflow.seed.tasks
+    private int[] drawTaskCounts() {
+        SplittableRandom random = new SplittableRandom(randomSeed);
+        double mean = projects > 0 ? (double) tasks / projects : 0;
+        int[] counts = new int[projects];
+        for (int i = 0; i < projects; i++) {
+            double draw = -mean * Math.log(1 - random.nextDouble());
+            counts[i] = (int) Math.min(Math.round(draw), Math.max(1, Math.round(mean * 20)));
+        }
+        return counts;
+    }
+
+    private void insertUsers(long firstUserId, int from, int to, String passwordHash) {
+        LocalDateTime now = LocalDateTime.now();
+        SplittableRandom random = new SplittableRandom(randomSeed ^ (0x9E3779B97F4A7C15L * (from + 1)));
+        inChunkTransaction(connection -> {
+            MultiRowInsert insert = new MultiRowInsert(connection, "users",
+                    new String[]{"id", "email", "password_hash", "name", "created_at", "updated_at"}, rowsPerInsert, null);
+            for (int i = from; i < to; i++) {
+                Timestamp createdAt = Timestamp.valueOf(now.minusDays(random.nextInt(1095)).minusSeconds(random.nextInt(86_400)));
+                insert.add(firstUserId + i, "user" + (i + 1) + EMAIL_DOMAIN, passwordHash, "Load User " + (i + 1),
+                        createdAt, createdAt);
+            }
+            insert.finish();
+        });
+    }
+
+    private void insertProjectChunk(int chunk, long firstUserId, long firstProjectId, long firstTaskId, int[] taskCounts) {
+        int from = chunk * PROJECTS_PER_CHUNK;
+        int to = Math.min(projects, from + PROJECTS_PER_CHUNK);
+        SplittableRandom random = new SplittableRandom(randomSeed + 31L * (chunk + 1));
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+
+        inChunkTransaction(connection -> {
+            MultiRowInsert projectInsert = new MultiRowInsert(connection, "projects",
+                    new String[]{"id", "title", "description", "user_id", "total_tasks", "completed_tasks", "created_at", "updated_at"},
+                    rowsPerInsert, null);
+            MultiRowInsert taskInsert = new MultiRowInsert(connection, "tasks",
+                    new String[]{"id", "title", "description", "due_date", "is_completed", "project_id", "created_at", "updated_at"},
+                    rowsPerInsert, projectInsert);
+
+            long taskId = firstTaskId;
+            for (int i = from; i < to; i++) {
+                long projectId = firstProjectId + i;
+                // Skewed ownership: low-numbered users own most of the projects
+                long userId = firstUserId + (long) (users * Math.pow(random.nextDouble(), 2));
+                int ageDays = random.nextInt(730);
+                LocalDateTime projectCreatedAt = now.minusDays(ageDays).minusSeconds(random.nextInt(86_400));
+                // Per-project completion ratio, so there are fresh, half-done and almost finished projects
+                double completionRatio = random.nextDouble();
+
+                List<Object[]> projectTasks = new ArrayList<>(taskCounts[i]);
+                int completed = 0;
+                for (int t = 0; t < taskCounts[i]; t++) {
+                    boolean isCompleted = random.nextDouble() < completionRatio;
+                    completed += isCompleted ? 1 : 0;
+                    // A quarter of the tasks have no due date; completed ones skew towards the past
+                    Date dueDate = random.nextInt(4) == 0 ? null : Date.valueOf(today.plusDays(
+                            isCompleted ? random.nextInt(-90, 15) : random.nextInt(-30, 120)));
+                    Timestamp createdAt = Timestamp.valueOf(projectCreatedAt.plusMinutes(random.nextLong(ageDays * 1440L + 1)));
+                    projectTasks.add(new Object[]{taskId++, "Task " + (t + 1) + " of project " + projectId,
+                            random.nextBoolean() ? null : "Synthetic task description for load testing",
+                            dueDate, isCompleted, projectId, createdAt, createdAt});
+                }
+
+                Timestamp createdAt = Timestamp.valueOf(projectCreatedAt);
+                projectInsert.add(projectId, "Project " + projectId, "Synthetic project for load testing", userId,
+                        (long) taskCounts[i], (long) completed, createdAt, createdAt);
+                for (Object[] row : projectTasks) {
+                    taskInsert.add(row);
+                }
+            }
+            taskInsert.finish();
+            projectInsert.finish();
+        });
+    }
+
+    private void inChunkTransaction(SqlWork work) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean mysql = "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                // Rows are generated consistent, so skip per-row FK and unique checks for this session
+                if (mysql) {
+                    statement.execute("SET foreign_key_checks = 0, unique_checks = 0");
+                }
+                work.execute(connection);
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                if (mysql) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("SET foreign_key_checks = 1, unique_checks = 1");
+                    }
+                }
+                connection.setAutoCommit(autoCommit);
+            }
+            return null;
+        });
+    }
+
+    // Moves the table's AUTO_INCREMENT past count ids before they are written, so identity inserts skip the range
+    private long reserveIdentityRange(String table, long count) {
+        long first = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class) + 1;
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if ("H2".equalsIgnoreCase(database)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (first + count));
+        } else {
+            jdbcTemplate.execute("ALTER TABLE " + table + " AUTO_INCREMENT = " + (first + count));
+        }
+        return first;
+    }
+
+    // Full statements would otherwise fail at runtime once rows * columns passes the placeholder limit
+    static int cappedRowsPerInsert(int requestedRows, int columns) {
+        return Math.max(1, Math.min(requestedRows, MAX_PLACEHOLDERS / columns));
+    }
+
+    private static void await(List<Future<?>> futures) throws Exception {
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private static long elapsedSeconds(long start) {
+        return (System.nanoTime() - start) / 1_000_000_000L;
+    }
+
+    @FunctionalInterface
+    private interface SqlWork {
+        void execute(Connection connection) throws SQLException;
+    }
+
+    /**
+     * Buffers rows and writes them as {@code INSERT ... VALUES (...), (...), ...} statements of up to
+     * {@code rowsPerStatement} rows, reusing one prepared statement for all full batches. Pending rows of
+     * {@code parent} are written first, so child rows never reach the database before the rows they reference.
+     */
+    private static final class MultiRowInsert {
+
+        private final Connection connection;
+        private final String table;
+        private final String[] columns;
+        private final int rowsPerStatement;
+        private final MultiRowInsert parent;
+        private final List<Object[]> rows;
+        private PreparedStatement fullStatement;
+
+        MultiRowInsert(Connection connection, String table, String[] columns, int rowsPerStatement, MultiRowInsert parent) {
+            this.connection = connection;
+            this.parent = parent;
+            this.table = table;
+            this.columns = columns;
+            this.rowsPerStatement = cappedRowsPerInsert(rowsPerStatement, columns.length);
+            this.rows = new ArrayList<>(this.rowsPerStatement);
+        }
+
+        void add(Object... values) throws SQLException {
+            rows.add(values);
+            if (rows.size() == rowsPerStatement) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            if (rows.isEmpty()) {
+                return;
+            }
+            if (parent != null) {
+                parent.flush();
+            }
+            if (rows.size() == rowsPerStatement) {
+                if (fullStatement == null) {
+                    fullStatement = connection.prepareStatement(sql(rowsPerStatement));
+                }
+                execute(fullStatement);
+            } else {
+                try (PreparedStatement statement = connection.prepareStatement(sql(rows.size()))) {
+                    execute(statement);
+                }
+            }
+            rows.clear();
+        }
+
+        void finish() throws SQLException {
+            flush();
+            if (fullStatement != null) {
+                fullStatement.close();
+            }
+        }
+
+        private void execute(PreparedStatement statement) throws SQLException {
+            int index = 1;
+            for (Object[] row : rows) {
+                for (Object value : row) {
+                    statement.setObject(index++, value);
+                }
+            }
+            statement.executeUpdate();
+        }
+
+        private String sql(int rowCount) {
+            String placeholders = "(" + "?,".repeat(columns.length - 1) + "?)";
+            StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                    .append(" (").append(String.join(", ", columns)).append(") VALUES ");
+            for (int i = 0; i < rowCount; i++) {
+                sql.append(i == 0 ? "" : ",").append(placeholders);
+            }
+            return sql.toString();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.taskflowapi.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental RFC 4180 reader: quoted fields may contain separators, doubled quotes and line breaks.
+ * Only the current record is held in memory, and fields are cut off at a maximum length, so a
+ * malformed or hostile input can't make it buffer without bound.
+ */
+public class CsvRecordReader {
+
+    private final Reader reader;
+    private final int maxFieldLength;
+    private int pushedBack = -2;
+
+    public CsvRecordReader(Reader reader, int maxFieldLength) {
+        this.reader = reader;
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    /**
+     * Returns the fields of the next record, or null at the end of the input.
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    // Unterminated quote: keep what was read as the last field
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        append(field, '"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    append(field, c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                return fields;
+            } else if (c == '\r') {
+                int next = read();
+                if (next != '\n') {
+                    pushedBack = next;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                append(field, c);
+            }
+            c = read();
+        }
+    }
+
+    private void append(StringBuilder field, int c) {
+        if (field.length() < maxFieldLength) {
+            field.append((char) c);
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
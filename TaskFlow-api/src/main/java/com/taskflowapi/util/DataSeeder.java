@@ -6,10 +6,14 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+// BulkDataGenerator calls this before generating, so the test accounts exist alongside a synthetic dataset
 @Component
+@Order(0)
 @RequiredArgsConstructor
 public class DataSeeder implements CommandLineRunner {
 
@@ -18,7 +22,9 @@ public class DataSeeder implements CommandLineRunner {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
+    // Read-write transaction so the emptiness check runs on the primary even when a read replica is configured
     @Override
+    @Transactional
     public void run(String... args) throws Exception {
         if (userRepository.count() == 0) {
             log.info("Seeding test users...");
@@ -0,0 +1,59 @@
+package com.taskflowapi.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+// Runs before the web server starts, so no search request reaches MySQL while the index is missing or being built
+@Component
+public class TaskSearchIndexInitializer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndexInitializer.class);
+
+    static final String INDEX_NAME = "ft_tasks_title_description";
+
+    // ER_DUP_KEYNAME: another instance created the index between our check and our ALTER
+    private static final int DUPLICATE_KEY_NAME = 1061;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean fullText;
+
+    public TaskSearchIndexInitializer(JdbcTemplate jdbcTemplate, @Value("${taskflow.search.full-text:true}") boolean fullText) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fullText = fullText;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if (!fullText || !"MySQL".equalsIgnoreCase(database)) {
+            return;
+        }
+        // JPA can't declare a FULLTEXT index, so ddl-auto leaves it to us; InnoDB keeps it current on every commit
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = 'tasks' AND index_name = ?",
+                Integer.class, INDEX_NAME
+        );
+        if (existing != null && existing > 0) {
+            return;
+        }
+        log.info("Creating full-text index {} on tasks(title, description); this can take a while on a large table", INDEX_NAME);
+        try {
+            jdbcTemplate.execute("ALTER TABLE tasks ADD FULLTEXT INDEX " + INDEX_NAME + " (title, description)");
+        } catch (DataAccessException e) {
+            if (!(e.getMostSpecificCause() instanceof SQLException sqlException)
+                    || sqlException.getErrorCode() != DUPLICATE_KEY_NAME) {
+                throw e;
+            }
+            log.info("Full-text index {} was created concurrently by another instance", INDEX_NAME);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.taskflowapi.util;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+// Runs once the schema exists but before the web server starts, so no request can take an id from the stale sequence
+@Component
+@RequiredArgsConstructor
+public class TaskSequenceInitializer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSequenceInitializer.class);
+
+    // Must match the allocationSize of the task_seq generator on Task.id
+    static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!isMySql()) {
+            return;
+        }
+        alignWithExistingTasks();
+    }
+
+    public void alignWithExistingTasks() {
+        // Tasks inserted outside Hibernate (while Task.id was AUTO_INCREMENT, or by BulkDataGenerator) can sit
+        // above the emulated sequence's next value, so move it past them; a no-op when already aligned.
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM tasks", Long.class);
+        int moved = jdbcTemplate.update(
+                "UPDATE task_seq SET next_val = ? WHERE next_val <= ?",
+                maxId + ALLOCATION_SIZE + 1, maxId + ALLOCATION_SIZE
+        );
+        if (moved > 0) {
+            log.info("Advanced task_seq past existing task ids (max id {})", maxId);
+        }
+    }
+
+    /**
+     * Takes {@code count} consecutive task ids out of task_seq for rows written outside Hibernate. The range starts
+     * above every block the pooled optimizer has handed out, and the sequence moves past it, so neither running
+     * instances nor later id fetches can reuse an id from it.
+     *
+     * @return the first reserved id
+     */
+    public long reserveTaskIds(long count) {
+        if (isMySql()) {
+            alignWithExistingTasks();
+            // One atomic statement; a fetched block lies below the value it left behind, so the range starts there
+            return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate("UPDATE task_seq SET next_val = LAST_INSERT_ID(next_val) + "
+                            + (count + ALLOCATION_SIZE));
+                    try (ResultSet result = statement.executeQuery("SELECT LAST_INSERT_ID()")) {
+                        result.next();
+                        return result.getLong(1);
+                    }
+                }
+            });
+        }
+        // Embedded H2: a real sequence that only this process uses; skip the block tied to the value just read
+        Long current = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR task_seq", Long.class);
+        long first = current + ALLOCATION_SIZE;
+        jdbcTemplate.execute("ALTER SEQUENCE task_seq RESTART WITH " + (first + count + ALLOCATION_SIZE));
+        return first;
+    }
+
+    private boolean isMySql() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(database);
+    }
+}
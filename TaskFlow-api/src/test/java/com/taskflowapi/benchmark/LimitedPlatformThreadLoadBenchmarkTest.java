@@ -0,0 +1,30 @@
+package com.taskflowapi.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+// The concurrency limit on its own, on any JDK: compare with PlatformThreadLoadBenchmarkTest
+// Run with: mvn test -Dsurefire.excludedGroups= -Dgroups=benchmark -Dtest='*PlatformThreadLoadBenchmarkTest'
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "taskflow.concurrency-limit.enabled=true",
+        "taskflow.concurrency-limit.max-concurrent=10",
+        "taskflow.concurrency-limit.acquire-timeout=2s"
+})
+@ActiveProfiles("test")
+@DisplayName("Mixed read/write load on platform threads with concurrency limit")
+class LimitedPlatformThreadLoadBenchmarkTest extends MixedLoadBenchmarkSupport {
+
+    @Test
+    @DisplayName("Mixed load - platform threads with concurrency limit")
+    void mixedLoad_OnPlatformThreadsWithLimit() throws Exception {
+        Result result = runMixedLoad("platform threads + limit");
+
+        assertThat(result.requests()).isPositive();
+    }
+}
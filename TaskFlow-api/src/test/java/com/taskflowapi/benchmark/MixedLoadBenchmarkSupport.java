@@ -0,0 +1,180 @@
+package com.taskflowapi.benchmark;
+
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.dto.TaskBatchOperation;
+import com.taskflowapi.dto.TaskBatchRequest;
+import com.taskflowapi.dto.TaskResponse;
+import com.taskflowapi.entity.User;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.security.JwtUtil;
+import com.taskflowapi.service.ProjectService;
+import com.taskflowapi.service.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Drives a mixed read/write HTTP load against the running server and logs throughput and latency percentiles.
+ * Subclasses pick the execution mode through their active profiles.
+ */
+abstract class MixedLoadBenchmarkSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(MixedLoadBenchmarkSupport.class);
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 300);
+    private static final Duration WARM_UP = Duration.ofSeconds(Long.getLong("benchmark.warmupSeconds", 5));
+    private static final Duration MEASURE = Duration.ofSeconds(Long.getLong("benchmark.seconds", 20));
+    private static final int SEED_TASKS = 500;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    protected record Result(String mode, long requests, long rejected, long errors, double throughput,
+                            double p50Millis, double p99Millis) {
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d requests, %.0f req/s, p50 %.1f ms, p99 %.1f ms, %d rejected (503), %d errors",
+                    mode, requests, throughput, p50Millis, p99Millis, rejected, errors);
+        }
+    }
+
+    protected Result runMixedLoad(String mode) throws Exception {
+        User user = userRepository.findByEmail("john@example.com").orElseThrow();
+        String token = "Bearer " + jwtUtil.generateToken(user.getEmail(), user.getId());
+        Long projectId = projectService.createProject(new ProjectRequest("Load " + mode, null), user.getId()).getId();
+        List<TaskBatchOperation> operations = new ArrayList<>(SEED_TASKS);
+        for (int i = 0; i < SEED_TASKS; i++) {
+            operations.add(new TaskBatchOperation(TaskBatchOperation.Type.CREATE, null, "Task " + i, null,
+                    LocalDate.now().plusDays(i % 30)));
+        }
+        List<Long> taskIds = taskService.executeBatch(projectId, new TaskBatchRequest(operations), user.getId())
+                .getTasks().stream().map(TaskResponse::getId).toList();
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(32))
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        String base = "http://localhost:" + port + "/api";
+
+        drive(client, base, token, projectId, taskIds, WARM_UP);
+        long[][] latencies = new long[CLIENTS][];
+        long[] counters = drive(client, base, token, projectId, taskIds, MEASURE, latencies);
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        Result result = new Result(mode, all.length, counters[0], counters[1], all.length / (double) MEASURE.toSeconds(),
+                percentile(all, 0.50), percentile(all, 0.99));
+        log.info("{} on Java {}, {} clients, {} s", result, Runtime.version().feature(), CLIENTS, MEASURE.toSeconds());
+        return result;
+    }
+
+    private long[] drive(HttpClient client, String base, String token, Long projectId, List<Long> taskIds,
+                         Duration duration) throws Exception {
+        return drive(client, base, token, projectId, taskIds, duration, new long[CLIENTS][]);
+    }
+
+    // Each client loops over 50% paged list, 20% dashboard, 20% toggle, 10% create until the deadline
+    private long[] drive(HttpClient client, String base, String token, Long projectId, List<Long> taskIds,
+                         Duration duration, long[][] latencies) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        long[] counters = new long[2];
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(clients.submit(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    long rejected = 0;
+                    long errors = 0;
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = nextRequest(random, base, token, projectId, taskIds);
+                        long start = System.nanoTime();
+                        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        long elapsed = System.nanoTime() - start;
+                        if (status == 503) {
+                            rejected++;
+                        } else if (status >= 400) {
+                            errors++;
+                        } else {
+                            if (count == samples.length) {
+                                samples = Arrays.copyOf(samples, count * 2);
+                            }
+                            samples[count++] = elapsed;
+                        }
+                    }
+                    long[] result = Arrays.copyOf(samples, count + 2);
+                    result[count] = rejected;
+                    result[count + 1] = errors;
+                    return result;
+                }));
+            }
+            for (int c = 0; c < CLIENTS; c++) {
+                long[] result = futures.get(c).get();
+                counters[0] += result[result.length - 2];
+                counters[1] += result[result.length - 1];
+                latencies[c] = Arrays.copyOf(result, result.length - 2);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        return counters;
+    }
+
+    private HttpRequest nextRequest(ThreadLocalRandom random, String base, String token, Long projectId,
+                                    List<Long> taskIds) {
+        int roll = random.nextInt(100);
+        HttpRequest.Builder builder = HttpRequest.newBuilder().header("Authorization", token).timeout(Duration.ofSeconds(30));
+        if (roll < 50) {
+            return builder.uri(URI.create(base + "/projects/" + projectId + "/tasks/page?limit=50")).GET().build();
+        }
+        if (roll < 70) {
+            return builder.uri(URI.create(base + "/dashboard")).GET().build();
+        }
+        if (roll < 90) {
+            Long taskId = taskIds.get(random.nextInt(taskIds.size()));
+            return builder.uri(URI.create(base + "/tasks/" + taskId + "/complete"))
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.uri(URI.create(base + "/projects/" + projectId + "/tasks"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"Load task\"}"))
+                .build();
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
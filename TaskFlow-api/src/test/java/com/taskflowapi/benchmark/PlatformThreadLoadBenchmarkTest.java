@@ -0,0 +1,25 @@
+package com.taskflowapi.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+// Run with: mvn test -Dsurefire.excludedGroups= -Dgroups=benchmark -Dtest=PlatformThreadLoadBenchmarkTest
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Mixed read/write load on platform threads")
+class PlatformThreadLoadBenchmarkTest extends MixedLoadBenchmarkSupport {
+
+    @Test
+    @DisplayName("Mixed load - platform threads (Tomcat pool)")
+    void mixedLoad_OnPlatformThreads() throws Exception {
+        Result result = runMixedLoad("platform threads");
+
+        assertThat(result.requests()).isPositive();
+    }
+}
@@ -0,0 +1,97 @@
+package com.taskflowapi.benchmark;
+
+import com.taskflowapi.dto.TaskBatchOperation;
+import com.taskflowapi.dto.TaskBatchRequest;
+import com.taskflowapi.dto.TaskBatchResponse;
+import com.taskflowapi.dto.TaskRequest;
+import com.taskflowapi.entity.Project;
+import com.taskflowapi.entity.User;
+import com.taskflowapi.repository.ProjectRepository;
+import com.taskflowapi.repository.TaskRepository;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+// Run with: mvn test -Dsurefire.excludedGroups= -Dgroups=benchmark -Dtest=TaskBatchBenchmarkTest
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Task batch insert benchmark")
+class TaskBatchBenchmarkTest {
+
+    private static final int TASKS = 2_000;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.findByEmail("john@example.com").orElseThrow();
+        userId = user.getId();
+    }
+
+    @Test
+    @DisplayName("executeBatch() vs one createTask() call per task")
+    void batchInsert_ShouldOutperformPerTaskInserts() {
+        long singleNanos = Long.MAX_VALUE;
+        long batchNanos = Long.MAX_VALUE;
+
+        // Best of several rounds; the first round doubles as JIT and connection-pool warm-up
+        for (int round = 0; round < ROUNDS; round++) {
+            Long singleProject = newProject("single-" + round);
+            long start = System.nanoTime();
+            for (int i = 0; i < TASKS; i++) {
+                taskService.createTask(singleProject, new TaskRequest("Task " + i, "Description " + i, LocalDate.now()), userId);
+            }
+            singleNanos = Math.min(singleNanos, System.nanoTime() - start);
+
+            Long batchProject = newProject("batch-" + round);
+            List<TaskBatchOperation> operations = new ArrayList<>(TASKS);
+            for (int i = 0; i < TASKS; i++) {
+                operations.add(new TaskBatchOperation(TaskBatchOperation.Type.CREATE, null,
+                        "Task " + i, "Description " + i, LocalDate.now()));
+            }
+            start = System.nanoTime();
+            TaskBatchResponse response = taskService.executeBatch(batchProject, new TaskBatchRequest(operations), userId);
+            batchNanos = Math.min(batchNanos, System.nanoTime() - start);
+
+            assertThat(response.getCreated()).isEqualTo(TASKS);
+            assertThat(taskRepository.countByProjectId(batchProject)).isEqualTo(TASKS);
+        }
+
+        System.out.printf("%d tasks: per-task %d ms, batch %d ms, speedup %.1fx%n",
+                TASKS, singleNanos / 1_000_000, batchNanos / 1_000_000, (double) singleNanos / batchNanos);
+        assertThat(batchNanos).isLessThan(singleNanos);
+    }
+
+    private Long newProject(String title) {
+        Project project = new Project();
+        project.setTitle(title);
+        project.setUser(userRepository.getReferenceById(userId));
+        return projectRepository.save(project).getId();
+    }
+}
@@ -0,0 +1,142 @@
+package com.taskflowapi.benchmark;
+
+import com.taskflowapi.dto.TaskBatchOperation;
+import com.taskflowapi.dto.TaskBatchRequest;
+import com.taskflowapi.dto.TaskResponse;
+import com.taskflowapi.entity.Project;
+import com.taskflowapi.entity.Task;
+import com.taskflowapi.entity.User;
+import com.taskflowapi.repository.ProjectRepository;
+import com.taskflowapi.repository.TaskRepository;
+import com.taskflowapi.repository.TaskSpecifications;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.service.TaskService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+// Run with: mvn test -Dsurefire.excludedGroups= -Dgroups=benchmark -Dtest=TaskProjectionBenchmarkTest
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Task list projection benchmark")
+class TaskProjectionBenchmarkTest {
+
+    private static final int TASKS = 50_000;
+    private static final int CHUNK = 5_000;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Long userId;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.findByEmail("john@example.com").orElseThrow();
+        userId = user.getId();
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("findResponsesByProjectId() vs loading and mapping Task entities")
+    void projection_ShouldAllocateLessThanEntities() {
+        Long projectId = seedProject();
+        Sample entities = new Sample();
+        Sample projection = new Sample();
+
+        // Best of several rounds; the first round doubles as JIT and connection-pool warm-up
+        for (int round = 0; round < ROUNDS; round++) {
+            entities.record(() -> taskRepository.findAll(TaskSpecifications.inProject(projectId)).stream()
+                    .map(this::toResponse)
+                    .toList());
+            projection.record(() -> taskRepository.findResponsesByProjectId(projectId));
+        }
+
+        System.out.printf("%d tasks: entities %d ms / %d MB allocated / %d managed, " +
+                        "projection %d ms / %d MB allocated / %d managed%n",
+                TASKS, entities.nanos / 1_000_000, entities.bytes >> 20, entities.managed,
+                projection.nanos / 1_000_000, projection.bytes >> 20, projection.managed);
+        assertThat(entities.managed).isEqualTo(TASKS);
+        assertThat(projection.managed).isZero();
+        assertThat(projection.bytes).isLessThan(entities.bytes);
+    }
+
+    private Long seedProject() {
+        Project project = new Project();
+        project.setTitle("projection-benchmark");
+        project.setUser(userRepository.getReferenceById(userId));
+        Long projectId = projectRepository.save(project).getId();
+
+        for (int offset = 0; offset < TASKS; offset += CHUNK) {
+            List<TaskBatchOperation> operations = new ArrayList<>(CHUNK);
+            for (int i = offset; i < offset + CHUNK; i++) {
+                operations.add(new TaskBatchOperation(TaskBatchOperation.Type.CREATE, null,
+                        "Task " + i, "Description " + i, LocalDate.now().plusDays(i % 30)));
+            }
+            taskService.executeBatch(projectId, new TaskBatchRequest(operations), userId);
+        }
+        assertThat(taskRepository.countByProjectId(projectId)).isEqualTo(TASKS);
+        return projectId;
+    }
+
+    private TaskResponse toResponse(Task task) {
+        return new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(),
+                task.getIsCompleted(), task.getProject().getId(), task.getCreatedAt(), task.getUpdatedAt());
+    }
+
+    private class Sample {
+        long nanos = Long.MAX_VALUE;
+        long bytes = Long.MAX_VALUE;
+        long managed;
+
+        // Runs the read in a read-only transaction, as the service does, and keeps the best round
+        void record(Supplier<List<TaskResponse>> read) {
+            readOnly.executeWithoutResult(status -> {
+                long allocated = threads.getCurrentThreadAllocatedBytes();
+                long start = System.nanoTime();
+                List<TaskResponse> responses = read.get();
+                nanos = Math.min(nanos, System.nanoTime() - start);
+                bytes = Math.min(bytes, threads.getCurrentThreadAllocatedBytes() - allocated);
+                managed = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+                assertThat(responses).hasSize(TASKS);
+            });
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskflowapi.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+// Run with: mvn test -Dsurefire.excludedGroups= -Dgroups=benchmark -Dtest=VirtualThreadLoadBenchmarkTest
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "virtual"})
+@DisplayName("Mixed read/write load on virtual threads")
+class VirtualThreadLoadBenchmarkTest extends MixedLoadBenchmarkSupport {
+
+    @Test
+    @DisplayName("Mixed load - virtual threads with concurrency limit")
+    void mixedLoad_OnVirtualThreads() throws Exception {
+        Result result = runMixedLoad("virtual threads");
+
+        assertThat(result.requests()).isPositive();
+    }
+}
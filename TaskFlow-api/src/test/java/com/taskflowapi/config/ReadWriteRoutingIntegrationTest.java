@@ -0,0 +1,124 @@
+package com.taskflowapi.config;
+
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.dto.ProjectResponse;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.security.AuthenticatedUser;
+import com.taskflowapi.service.ProjectService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+// Two embedded H2 databases stand in for primary and replica; the replica gets the schema but no data,
+// so reads that see freshly written rows must have gone to the primary
+@SpringBootTest(properties = {
+        "taskflow.datasource.replica.jdbc-url=jdbc:h2:mem:taskflow_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "taskflow.datasource.replica.username=sa",
+        "taskflow.datasource.replica.password=",
+        "taskflow.datasource.replica.connection-timeout=250"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("Read/write datasource routing integration tests")
+class ReadWriteRoutingIntegrationTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        if (replica.queryForObject("SELECT COUNT(*) FROM information_schema.tables WHERE table_name = 'projects'", Integer.class) == 0) {
+            new JdbcTemplate(primaryDataSource).queryForList("SCRIPT NODATA", String.class).stream()
+                    .filter(statement -> !statement.startsWith("CREATE USER"))
+                    .forEach(replica::execute);
+        }
+        userId = userRepository.findByEmail("john@example.com").orElseThrow().getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("getUserProjects() - Routing: Read-only transactions without a recent write should use the replica")
+    void readOnlyTransaction_WithoutRecentWrite_ShouldReadReplica() {
+        // Arrange
+        projectService.createProject(new ProjectRequest("Routed", null), userId);
+
+        // Act
+        List<ProjectResponse> projects = projectService.getUserProjects(userId);
+
+        // Assert
+        assertThat(projects).isEmpty();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("getUserProjects() - Routing: Should read from the primary right after the same user wrote")
+    void readOnlyTransaction_AfterOwnWrite_ShouldReadPrimary() {
+        // Arrange
+        authenticate();
+        ProjectResponse created = projectService.createProject(new ProjectRequest("Sticky", null), userId);
+
+        // Act
+        List<ProjectResponse> projects = projectService.getUserProjects(userId);
+
+        // Assert
+        assertThat(projects).extracting(ProjectResponse::getId).contains(created.getId());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("getUserProjects() - Fallback: Should read from the primary when the replica is unavailable")
+    void readOnlyTransaction_WithReplicaDown_ShouldFallBackToPrimary() {
+        // Arrange
+        replicaDataSource.close();
+
+        // Act
+        List<ProjectResponse> projects = projectService.getUserProjects(userId);
+
+        // Assert
+        assertThat(projects).isNotEmpty();
+    }
+
+    private void authenticate() {
+        AuthenticatedUser principal = new AuthenticatedUser(userId, "john@example.com");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
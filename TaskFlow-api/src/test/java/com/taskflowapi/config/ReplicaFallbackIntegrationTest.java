@@ -0,0 +1,100 @@
+package com.taskflowapi.config;
+
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.dto.ProjectResponse;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.service.ProjectService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+// The replica "host" accepts TCP connections but never answers, like a replica behind a dropped route: only the
+// pool's connection timeout ends the wait. The shipped timeout is used, not a test override.
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("Unreachable read replica integration tests")
+class ReplicaFallbackIntegrationTest {
+
+    private static final ServerSocket SILENT_REPLICA = silentSocket();
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("taskflow.datasource.replica.jdbc-url",
+                () -> "jdbc:h2:tcp://localhost:" + SILENT_REPLICA.getLocalPort() + "/mem:replica");
+        registry.add("taskflow.datasource.replica.username", () -> "sa");
+        registry.add("taskflow.datasource.replica.password", () -> "");
+        // Long enough that the replica marked down by the startup probe isn't retried before the tests run
+        registry.add("taskflow.datasource.replica-retry-after", () -> "10m");
+    }
+
+    @AfterAll
+    static void closeReplica() throws IOException {
+        SILENT_REPLICA.close();
+    }
+
+    @Test
+    @DisplayName("getConnection() - Fallback: A replica connection should time out after about a second, not 30")
+    void replicaConnection_WhenUnreachable_ShouldTimeOutQuickly() {
+        // Act
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> replicaDataSource.getConnection().close()).isInstanceOf(SQLException.class);
+        Duration waited = Duration.ofNanos(System.nanoTime() - start);
+
+        // Assert
+        assertThat(replicaDataSource.getConnectionTimeout()).isEqualTo(1000);
+        assertThat(waited).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("getUserProjects() - Fallback: Reads should go to the primary without waiting on the replica")
+    void readOnlyTransaction_WithReplicaUnreachable_ShouldReadPrimaryQuickly() {
+        // Arrange
+        Long userId = userRepository.findByEmail("john@example.com").orElseThrow().getId();
+        ProjectResponse created = projectService.createProject(new ProjectRequest("Fallback", null), userId);
+
+        // Act
+        long start = System.nanoTime();
+        List<ProjectResponse> projects = projectService.getUserProjects(userId);
+        Duration waited = Duration.ofNanos(System.nanoTime() - start);
+
+        // Assert: the startup probe already marked the replica down, so no read pays the connection timeout
+        assertThat(projects).extracting(ProjectResponse::getId).contains(created.getId());
+        assertThat(waited).isLessThan(Duration.ofMillis(replicaDataSource.getConnectionTimeout()));
+    }
+
+    private static ServerSocket silentSocket() {
+        try {
+            return new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
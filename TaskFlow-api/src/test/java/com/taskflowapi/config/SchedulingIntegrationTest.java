@@ -0,0 +1,52 @@
+package com.taskflowapi.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Scheduling integration tests")
+class SchedulingIntegrationTest {
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Test
+    @DisplayName("TaskScheduler - Success: Should run a job while another scheduled job is still busy")
+    void taskScheduler_WithLongRunningJob_ShouldStillRunOthers() throws Exception {
+        // Arrange
+        CountDownLatch longJobStarted = new CountDownLatch(1);
+        CountDownLatch releaseLongJob = new CountDownLatch(1);
+        CountDownLatch heartbeat = new CountDownLatch(1);
+        taskScheduler.schedule(() -> {
+            longJobStarted.countDown();
+            try {
+                releaseLongJob.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, Instant.now());
+
+        try {
+            assertThat(longJobStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Act
+            taskScheduler.schedule(heartbeat::countDown, Instant.now());
+
+            // Assert
+            assertThat(heartbeat.await(2, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            releaseLongJob.countDown();
+        }
+    }
+}
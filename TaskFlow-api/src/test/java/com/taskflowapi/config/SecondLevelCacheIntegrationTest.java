@@ -0,0 +1,138 @@
+package com.taskflowapi.config;
+
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.dto.TaskRequest;
+import com.taskflowapi.entity.User;
+import com.taskflowapi.filter.QueryCountFilter;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.security.JwtUtil;
+import com.taskflowapi.service.ProjectService;
+import com.taskflowapi.service.TaskService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("Second-level cache integration tests")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private Long userId;
+    private String token;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setEmail("cache-" + UUID.randomUUID() + "@example.com");
+        user.setName("Cached");
+        user.setPasswordHash("not-used");
+        userId = userRepository.save(user).getId();
+        token = "Bearer " + jwtUtil.generateToken(user.getEmail(), userId);
+        projectId = projectService.createProject(new ProjectRequest("Cached", "Before"), userId).getId();
+    }
+
+    private CacheRegionStatistics region(String name) {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getCacheRegionStatistics(name);
+    }
+
+    private long statements(MockHttpServletRequestBuilder request) throws Exception {
+        double before = totalStatements();
+        mockMvc.perform(request.header("Authorization", token)).andExpect(status().is2xxSuccessful());
+        return Math.round(totalStatements() - before);
+    }
+
+    private double totalStatements() {
+        return meterRegistry.find(QueryCountFilter.METRIC_NAME).summaries().stream()
+                .mapToDouble(DistributionSummary::totalAmount)
+                .sum();
+    }
+
+    @Test
+    @DisplayName("Repeated project reads are served from the project region and the cached ownership lookup")
+    void repeatedReads_ShouldHitCache() throws Exception {
+        statements(get("/api/projects/" + projectId + "/progress"));
+        long projectHits = region(CacheConfig.PROJECT_REGION).getHitCount();
+        long lookupHits = region(CacheConfig.LOOKUP_REGION).getHitCount();
+
+        long warm = statements(get("/api/projects/" + projectId + "/progress"));
+
+        assertThat(warm).isZero();
+        assertThat(region(CacheConfig.PROJECT_REGION).getHitCount()).isGreaterThan(projectHits);
+        assertThat(region(CacheConfig.LOOKUP_REGION).getHitCount()).isGreaterThan(lookupHits);
+    }
+
+    @Test
+    @DisplayName("Task writes evict the project they count, so progress never shows stale counters")
+    void taskWrites_ShouldEvictProjectCounters() throws Exception {
+        statements(get("/api/projects/" + projectId + "/progress"));
+
+        Long taskId = taskService.createTask(projectId, new TaskRequest("Counted", null, null), userId).getId();
+        assertThat(projectService.getProjectProgress(projectId, userId).getTotalTasks()).isEqualTo(1);
+        taskService.toggleTaskCompletion(taskId, userId);
+        assertThat(projectService.getProjectProgress(projectId, userId).getCompletedTasks()).isEqualTo(1);
+        taskService.deleteTask(taskId, userId);
+        assertThat(projectService.getProjectProgress(projectId, userId).getTotalTasks()).isZero();
+    }
+
+    @Test
+    @DisplayName("updateProject()/deleteProject() invalidate the cached project and its ownership lookup")
+    void projectWrites_ShouldInvalidate() throws Exception {
+        mockMvc.perform(get("/api/projects/" + projectId).header("Authorization", token))
+                .andExpect(jsonPath("$.description").value("Before"));
+
+        mockMvc.perform(put("/api/projects/" + projectId).header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Cached\",\"description\":\"After\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/projects/" + projectId).header("Authorization", token))
+                .andExpect(jsonPath("$.description").value("After"));
+
+        mockMvc.perform(delete("/api/projects/" + projectId).header("Authorization", token))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/projects/" + projectId).header("Authorization", token))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/projects/" + projectId + "/progress").header("Authorization", token))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,153 @@
+package com.taskflowapi.config;
+
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.entity.User;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.security.JwtUtil;
+import com.taskflowapi.service.ProjectService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+// Raw sockets, so the client can pause mid-body and reuse a connection; the connection timeout is far below the pauses
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.connection-timeout=300ms",
+        "server.tomcat.keep-alive-timeout=10s",
+        "taskflow.server.upload-timeout=10s"
+})
+@ActiveProfiles("test")
+@DisplayName("Tomcat timeout integration tests")
+class TomcatTimeoutIntegrationTest {
+
+    private static final long PAUSE_MILLIS = 1500;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String token;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setEmail("timeouts-" + UUID.randomUUID() + "@example.com");
+        user.setName("Slow Client");
+        user.setPasswordHash("not-used");
+        Long userId = userRepository.save(user).getId();
+        token = "Bearer " + jwtUtil.generateToken(user.getEmail(), userId);
+        projectId = projectService.createProject(new ProjectRequest("Slow uploads", null), userId).getId();
+    }
+
+    @Test
+    @DisplayName("POST tasks:import - Success: Should accept an upload that pauses longer than the connection timeout")
+    void importTasks_PausingUpload_ShouldComplete() throws Exception {
+        // Arrange
+        byte[] first = "{\"title\":\"Before pause\"}\n".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "{\"title\":\"After pause\"}\n".getBytes(StandardCharsets.UTF_8);
+        String head = "POST /api/projects/" + projectId + "/tasks:import HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Authorization: " + token + "\r\n"
+                + "Content-Type: application/x-ndjson\r\n"
+                + "Content-Length: " + (first.length + second.length) + "\r\n"
+                + "Connection: close\r\n\r\n";
+
+        try (Socket socket = new Socket("localhost", port)) {
+            OutputStream out = socket.getOutputStream();
+
+            // Act
+            out.write(head.getBytes(StandardCharsets.US_ASCII));
+            out.write(first);
+            out.flush();
+            Thread.sleep(PAUSE_MILLIS);
+            out.write(second);
+            out.flush();
+
+            // Assert
+            String response = new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(response).startsWith("HTTP/1.1 200");
+            assertThat(response).contains("\"imported\":2");
+        }
+    }
+
+    @Test
+    @DisplayName("GET - Success: Should keep an idle connection open longer than the connection timeout")
+    void get_IdleKeepAliveConnection_ShouldBeReused() throws Exception {
+        try (Socket socket = new Socket("localhost", port)) {
+            // Arrange
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            assertThat(get(socket, in)).startsWith("HTTP/1.1 200");
+
+            // Act
+            Thread.sleep(PAUSE_MILLIS);
+
+            // Assert
+            assertThat(get(socket, in)).startsWith("HTTP/1.1 200");
+        }
+    }
+
+    // Sends a request on the open connection and returns the status line, consuming the rest of the response
+    private String get(Socket socket, BufferedReader in) throws IOException {
+        String request = "GET /api/projects/" + projectId + " HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Authorization: " + token + "\r\n\r\n";
+        socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+        socket.getOutputStream().flush();
+
+        String status = in.readLine();
+        int contentLength = -1;
+        boolean chunked = false;
+        for (String line = in.readLine(); line != null && !line.isEmpty(); line = in.readLine()) {
+            String header = line.toLowerCase();
+            if (header.startsWith("content-length:")) {
+                contentLength = Integer.parseInt(header.substring("content-length:".length()).trim());
+            } else if (header.startsWith("transfer-encoding:") && header.contains("chunked")) {
+                chunked = true;
+            }
+        }
+        if (chunked) {
+            for (int size = Integer.parseInt(in.readLine().trim(), 16); size > 0;
+                 size = Integer.parseInt(in.readLine().trim(), 16)) {
+                skip(in, size);
+                in.readLine();
+            }
+            in.readLine();
+        } else if (contentLength > 0) {
+            skip(in, contentLength);
+        }
+        return status;
+    }
+
+    // The bodies are ASCII JSON, so characters and bytes line up
+    private static void skip(BufferedReader in, long chars) throws IOException {
+        while (chars > 0) {
+            long skipped = in.skip(chars);
+            if (skipped == 0) {
+                throw new IOException("Connection closed mid-response");
+            }
+            chars -= skipped;
+        }
+    }
+}
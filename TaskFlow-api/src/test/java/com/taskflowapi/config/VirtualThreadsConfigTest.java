@@ -0,0 +1,27 @@
+package com.taskflowapi.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("VirtualThreadsConfig Unit Tests")
+class VirtualThreadsConfigTest {
+
+    @Test
+    @DisplayName("requireVirtualThreads() - Failure: Should refuse to start below Java 21")
+    void requireVirtualThreads_OnJava17_ShouldThrow() {
+        assertThatThrownBy(() -> VirtualThreadsConfig.requireVirtualThreads(Runtime.Version.parse("17.0.9+9")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Java 21");
+    }
+
+    @Test
+    @DisplayName("requireVirtualThreads() - Success: Should accept Java 21 and later")
+    void requireVirtualThreads_OnJava21_ShouldPass() {
+        assertThatCode(() -> VirtualThreadsConfig.requireVirtualThreads(Runtime.Version.parse("21.0.1+12")))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> VirtualThreadsConfig.requireVirtualThreads(Runtime.Version.parse("25")))
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,166 @@
+package com.taskflowapi.controller;
+
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.dto.TaskRequest;
+import com.taskflowapi.dto.TaskResponse;
+import com.taskflowapi.entity.User;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.security.JwtUtil;
+import com.taskflowapi.service.ProjectService;
+import com.taskflowapi.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.webmvc.test.autoconfigure.MockMvcPrint;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// No result printing: it copies the headers of an open stream while the dispatcher is writing its first event
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc(print = MockMvcPrint.NONE)
+@DisplayName("Change stream integration tests")
+class ChangeStreamIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${taskflow.events.max-streams-per-user}")
+    private int maxStreamsPerUser;
+
+    private String token;
+    private Long userId;
+    private Long projectId;
+    private Long otherProjectId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.findByEmail("admin@example.com").orElseThrow();
+        userId = user.getId();
+        token = "Bearer " + jwtUtil.generateToken(user.getEmail(), userId);
+        projectId = projectService.createProject(new ProjectRequest("Streamed", "SSE test project"), userId).getId();
+        otherProjectId = projectService.createProject(new ProjectRequest("Other", "SSE test project"), userId).getId();
+    }
+
+    private MockHttpServletResponse openStream(String uri) throws Exception {
+        return mockMvc.perform(get(uri).header("Authorization", token))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    // Events are written by the dispatcher threads, so wait for them to show up
+    private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        return content;
+    }
+
+    @Test
+    @DisplayName("GET /api/events - Success: Should push committed task changes to the owner's stream")
+    void streamChanges_AfterTaskChanges_ShouldPushEvents() throws Exception {
+        // Arrange
+        MockHttpServletResponse stream = openStream("/api/events");
+
+        // Act
+        TaskResponse task = taskService.createTask(projectId, new TaskRequest("Pushed", null, LocalDate.now()), userId);
+        taskService.toggleTaskCompletion(task.getId(), userId);
+
+        // Assert
+        String content = awaitContent(stream, "event:TASK_TOGGLED");
+        assertThat(content).contains("event:TASK_CREATED");
+        assertThat(content).contains("event:TASK_TOGGLED");
+        assertThat(content).contains("\"taskId\":" + task.getId());
+        assertThat(content).doesNotContain("\"userId\"");
+    }
+
+    @Test
+    @DisplayName("GET /api/events?projectId - Success: Should only push changes of the requested project")
+    void streamChanges_WithProjectFilter_ShouldSkipOtherProjects() throws Exception {
+        // Arrange
+        MockHttpServletResponse stream = openStream("/api/events?projectId=" + projectId);
+
+        // Act
+        taskService.createTask(otherProjectId, new TaskRequest("Elsewhere", null, null), userId);
+        taskService.createTask(projectId, new TaskRequest("Here", null, null), userId);
+
+        // Assert
+        String content = awaitContent(stream, "\"title\":\"Here\"");
+        assertThat(content).contains("\"title\":\"Here\"");
+        assertThat(content).doesNotContain("Elsewhere");
+    }
+
+    @Test
+    @DisplayName("GET /api/events - Success: Should not push changes that were rolled back")
+    void streamChanges_WhenTransactionRollsBack_ShouldNotPushEvent() throws Exception {
+        // Arrange
+        MockHttpServletResponse stream = openStream("/api/events?projectId=" + projectId);
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            taskService.createTask(projectId, new TaskRequest("Rolled back", null, null), userId);
+            status.setRollbackOnly();
+        });
+        taskService.createTask(projectId, new TaskRequest("Committed", null, null), userId);
+
+        // Assert
+        String content = awaitContent(stream, "Committed");
+        assertThat(content).contains("Committed");
+        assertThat(content).doesNotContain("Rolled back");
+    }
+
+    @Test
+    @DisplayName("GET /api/events - Failure: Should answer 429 once the user has the maximum number of streams open")
+    void streamChanges_OverPerUserLimit_ShouldRejectWith429() throws Exception {
+        // Arrange
+        User tabs = new User();
+        tabs.setEmail("tabs-" + UUID.randomUUID() + "@example.com");
+        tabs.setName("Many Tabs");
+        tabs.setPasswordHash("not-used");
+        Long tabsId = userRepository.save(tabs).getId();
+        String tabsToken = "Bearer " + jwtUtil.generateToken(tabs.getEmail(), tabsId);
+        for (int i = 0; i < maxStreamsPerUser; i++) {
+            mockMvc.perform(get("/api/events").header("Authorization", tabsToken).accept("text/event-stream"))
+                    .andExpect(request().asyncStarted());
+        }
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events").header("Authorization", tabsToken).accept("text/event-stream"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "3"));
+    }
+}
@@ -0,0 +1,142 @@
+package com.taskflowapi.controller;
+
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.dto.TaskRequest;
+import com.taskflowapi.entity.User;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.security.JwtUtil;
+import com.taskflowapi.service.ProjectService;
+import com.taskflowapi.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("Conditional GET integration tests")
+class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String token;
+    private Long userId;
+    private Long projectId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.findByEmail("jane@example.com").orElseThrow();
+        userId = user.getId();
+        token = "Bearer " + jwtUtil.generateToken(user.getEmail(), userId);
+        projectId = projectService.createProject(new ProjectRequest("Conditional", "ETag test project"), userId).getId();
+        taskId = taskService.createTask(projectId, new TaskRequest("First", null, LocalDate.now()), userId).getId();
+    }
+
+    private String etagOf(String uri) throws Exception {
+        return mockMvc.perform(get(uri).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{id}/tasks - Success: Should answer 304 while the task list is unchanged")
+    void getProjectTasks_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        // Arrange
+        String uri = "/api/projects/" + projectId + "/tasks";
+        String etag = etagOf(uri);
+
+        // Act & Assert
+        mockMvc.perform(get(uri).header("Authorization", token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{id}/tasks - Success: Should change the ETag when a task is toggled, added or deleted")
+    void getProjectTasks_AfterTaskChanges_ShouldChangeETag() throws Exception {
+        // Arrange
+        String uri = "/api/projects/" + projectId + "/tasks";
+        String initial = etagOf(uri);
+
+        // Act
+        mockMvc.perform(patch("/api/tasks/" + taskId + "/complete").header("Authorization", token))
+                .andExpect(status().isOk());
+        String afterToggle = etagOf(uri);
+        mockMvc.perform(post("/api/projects/" + projectId + "/tasks").header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"Second\"}"))
+                .andExpect(status().isCreated());
+        String afterCreate = etagOf(uri);
+        mockMvc.perform(delete("/api/tasks/" + taskId).header("Authorization", token))
+                .andExpect(status().isNoContent());
+        String afterDelete = etagOf(uri);
+
+        // Assert
+        assertThat(initial).isNotNull();
+        assertThat(List.of(initial, afterToggle, afterCreate, afterDelete)).doesNotHaveDuplicates();
+        mockMvc.perform(get(uri).header("Authorization", token).header(HttpHeaders.IF_NONE_MATCH, initial))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /api/projects - Success: Should answer 304 until a project is updated")
+    void getUserProjects_AfterUpdate_ShouldChangeETag() throws Exception {
+        // Arrange
+        String etag = etagOf("/api/projects");
+        mockMvc.perform(get("/api/projects").header("Authorization", token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // Act
+        mockMvc.perform(put("/api/projects/" + projectId).header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"Renamed\",\"description\":\"Changed\"}"))
+                .andExpect(status().isOk());
+
+        // Assert
+        mockMvc.perform(get("/api/projects").header("Authorization", token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == " + projectId + ")].title").value("Renamed"));
+        assertThat(etagOf("/api/projects/" + projectId)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{id}/tasks - Failure: Should not reveal an ETag for another user's project")
+    void getProjectTasks_ForAnotherUsersProject_ShouldBeRejected() throws Exception {
+        // Arrange
+        User john = userRepository.findByEmail("john@example.com").orElseThrow();
+        String johnToken = "Bearer " + jwtUtil.generateToken(john.getEmail(), john.getId());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/projects/" + projectId + "/tasks").header("Authorization", johnToken))
+                .andExpect(status().is4xxClientError())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+}
@@ -0,0 +1,144 @@
+package com.taskflowapi.controller;
+
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.dto.TaskRequest;
+import com.taskflowapi.entity.User;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.security.JwtUtil;
+import com.taskflowapi.service.ProjectService;
+import com.taskflowapi.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("Export integration tests")
+class ExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String token;
+    private Long fullProjectId;
+    private Long emptyProjectId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setEmail("export-" + UUID.randomUUID() + "@example.com");
+        user.setName("Exporter");
+        user.setPasswordHash("not-used");
+        Long userId = userRepository.save(user).getId();
+        token = "Bearer " + jwtUtil.generateToken(user.getEmail(), userId);
+
+        fullProjectId = projectService.createProject(new ProjectRequest("Full", "Has tasks"), userId).getId();
+        emptyProjectId = projectService.createProject(new ProjectRequest("Empty", null), userId).getId();
+        taskService.createTask(fullProjectId, new TaskRequest("Plain", null, LocalDate.of(2026, 3, 1)), userId);
+        taskService.createTask(fullProjectId, new TaskRequest("Comma, \"quoted\"", "Line one\nline two", null), userId);
+    }
+
+    private MockHttpServletResponse export(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult started = mockMvc.perform(builder.header("Authorization", token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+    }
+
+    @Test
+    @DisplayName("GET /api/export?format=ndjson - Success: Should write each project followed by its tasks")
+    void export_AsNdjson_ShouldListProjectsThenTheirTasks() throws Exception {
+        // Act
+        MockHttpServletResponse response = export(get("/api/export").param("format", "ndjson"));
+
+        // Assert
+        assertThat(response.getContentType()).startsWith("application/x-ndjson");
+        List<JsonNode> lines = response.getContentAsString(StandardCharsets.UTF_8).lines()
+                .map(jsonMapper::readTree)
+                .toList();
+        assertThat(lines).extracting(line -> line.get("type").asString())
+                .containsExactly("project", "task", "task", "project");
+        assertThat(lines.get(0).get("project").get("id").asLong()).isEqualTo(fullProjectId);
+        assertThat(lines.get(2).get("task").get("title").asString()).isEqualTo("Comma, \"quoted\"");
+        assertThat(lines.get(3).get("project").get("id").asLong()).isEqualTo(emptyProjectId);
+    }
+
+    @Test
+    @DisplayName("GET /api/export?format=csv - Success: Should write one escaped row per task and one per empty project")
+    void export_AsCsv_ShouldWriteEscapedRows() throws Exception {
+        // Act
+        MockHttpServletResponse response = export(get("/api/export").param("format", "csv"));
+
+        // Assert
+        String csv = response.getContentAsString(StandardCharsets.UTF_8);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("taskflow-export.csv");
+        assertThat(csv).startsWith("project_id,project_title,");
+        assertThat(csv).contains(",Plain,,2026-03-01,false,");
+        assertThat(csv).contains(",\"Comma, \"\"quoted\"\"\",\"Line one\nline two\",,false,");
+        assertThat(csv).contains(emptyProjectId + ",Empty,,");
+    }
+
+    @Test
+    @DisplayName("GET /api/export - Success: Should gzip the export when the client accepts it")
+    void export_WithGzipAccepted_ShouldCompress() throws Exception {
+        // Arrange
+        String plain = export(get("/api/export")).getContentAsString(StandardCharsets.UTF_8);
+
+        // Act
+        MockHttpServletResponse response = export(get("/api/export").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"));
+
+        // Assert
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(plain);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/export?format=xml - Failure: Should reject unsupported formats")
+    void export_WithUnsupportedFormat_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/export").param("format", "xml").header("Authorization", token))
+                .andExpect(status().isBadRequest());
+    }
+}
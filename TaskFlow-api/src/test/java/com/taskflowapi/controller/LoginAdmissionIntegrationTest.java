@@ -0,0 +1,85 @@
+package com.taskflowapi.controller;
+
+import com.taskflowapi.entity.User;
+import com.taskflowapi.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Two failures per email and five attempts per address, so a handful of logins reaches both limits
+@SpringBootTest(properties = {"taskflow.login.max-failures-per-email=2", "taskflow.login.max-attempts-per-ip=5"})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("Login admission integration tests")
+class LoginAdmissionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setEmail("login-" + UUID.randomUUID() + "@example.com");
+        user.setName("Login");
+        user.setPasswordHash(passwordEncoder.encode("password123"));
+        email = userRepository.save(user).getEmail();
+    }
+
+    private ResultActions login(String password, String clientIp) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .with(request -> {
+                    request.setRemoteAddr(clientIp);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"));
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/login - Failure: Should answer 429 with Retry-After once an email has failed too often")
+    void login_AfterRepeatedFailures_ShouldRejectWith429() throws Exception {
+        login("wrong", "198.51.100.1").andExpect(status().isUnauthorized());
+        login("wrong", "198.51.100.2").andExpect(status().isUnauthorized());
+
+        // Even the right password waits for the window, from any address
+        login("password123", "198.51.100.3")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.status").value(429));
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/login - Failure: Should answer 429 once an address has used up its attempts")
+    void login_WithTooManyAttemptsFromOneAddress_ShouldRejectWith429() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            login("password123", "198.51.100.10").andExpect(status().isOk());
+        }
+
+        login("password123", "198.51.100.10")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        login("password123", "198.51.100.11").andExpect(status().isOk());
+    }
+}
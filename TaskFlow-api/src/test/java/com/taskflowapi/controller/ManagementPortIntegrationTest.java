@@ -0,0 +1,47 @@
+package com.taskflowapi.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Management port integration tests")
+class ManagementPortIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - Success: Should be scrapable on the management port only")
+    void prometheus_ShouldOnlyBeServedOnManagementPort() throws Exception {
+        HttpResponse<String> management = get(managementPort, "/actuator/prometheus");
+        HttpResponse<String> api = get(port, "/actuator/prometheus");
+
+        assertThat(managementPort).isNotEqualTo(port);
+        assertThat(management.statusCode()).isEqualTo(200);
+        assertThat(management.body()).contains("jvm_memory_used_bytes");
+        assertThat(api.statusCode()).isNotEqualTo(200);
+        assertThat(api.body()).doesNotContain("jvm_memory_used_bytes");
+    }
+
+    private HttpResponse<String> get(int targetPort, String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + targetPort + path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,177 @@
+package com.taskflowapi.controller;
+
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.dto.TaskBatchOperation;
+import com.taskflowapi.dto.TaskBatchRequest;
+import com.taskflowapi.entity.User;
+import com.taskflowapi.repository.TaskRepository;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.security.JwtUtil;
+import com.taskflowapi.service.ProjectDeletionService;
+import com.taskflowapi.service.ProjectService;
+import com.taskflowapi.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.endsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// A purge chunk of 3 tasks, so a 7-task project is already deleted in the background, in three chunks
+@SpringBootTest(properties = "taskflow.deletion.chunk-size=3")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("Project deletion integration tests")
+class ProjectDeletionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectDeletionService projectDeletionService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private Long userId;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setEmail("deletion-" + UUID.randomUUID() + "@example.com");
+        user.setName("Deleter");
+        user.setPasswordHash("not-used");
+        userId = userRepository.save(user).getId();
+        token = "Bearer " + jwtUtil.generateToken(user.getEmail(), userId);
+    }
+
+    private Long projectWithTasks(int tasks) {
+        Long projectId = projectService.createProject(new ProjectRequest("Project", null), userId).getId();
+        List<TaskBatchOperation> operations = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            operations.add(new TaskBatchOperation(TaskBatchOperation.Type.CREATE, null, "Searchable " + i, null, null));
+        }
+        taskService.executeBatch(projectId, new TaskBatchRequest(operations), userId);
+        return projectId;
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, token);
+    }
+
+    @Test
+    @DisplayName("DELETE - removes a project within one chunk and its tasks immediately")
+    void deleteSmallProject_ShouldDeleteInline() throws Exception {
+        Long projectId = projectWithTasks(3);
+
+        mockMvc.perform(authorized(delete("/api/projects/" + projectId)))
+                .andExpect(status().isNoContent());
+
+        assertThat(taskRepository.countByProjectId(projectId)).isZero();
+        mockMvc.perform(authorized(get("/api/projects/" + projectId))).andExpect(status().isNotFound());
+        mockMvc.perform(authorized(get("/api/projects/" + projectId + "/deletion"))).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("DELETE - hides a large project at once and reports progress until the purge removes it")
+    void deleteLargeProject_ShouldHideThenPurge() throws Exception {
+        Long projectId = projectWithTasks(7);
+        Long taskId = taskService.getProjectTasks(projectId, userId).get(0).getId();
+
+        mockMvc.perform(authorized(delete("/api/projects/" + projectId)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, endsWith("/api/projects/" + projectId + "/deletion")));
+
+        // Hidden everywhere, although no task has been deleted yet
+        assertThat(taskRepository.countByProjectId(projectId)).isEqualTo(7);
+        mockMvc.perform(authorized(get("/api/projects/" + projectId))).andExpect(status().isNotFound());
+        mockMvc.perform(authorized(get("/api/projects/" + projectId + "/tasks"))).andExpect(status().isUnauthorized());
+        mockMvc.perform(authorized(patch("/api/tasks/" + taskId + "/complete"))).andExpect(status().isNotFound());
+        mockMvc.perform(authorized(get("/api/projects")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(authorized(get("/api/tasks/search").param("q", "searchable")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0));
+        mockMvc.perform(authorized(get("/api/projects/" + projectId + "/deletion")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalTasks").value(7))
+                .andExpect(jsonPath("$.remainingTasks").value(7))
+                .andExpect(jsonPath("$.progressPercentage").value(0.0));
+
+        // Deleting again is still idempotent
+        mockMvc.perform(authorized(delete("/api/projects/" + projectId))).andExpect(status().isNoContent());
+
+        assertThat(projectDeletionService.purgeDeletedProjects()).isEqualTo(1);
+
+        assertThat(taskRepository.countByProjectId(projectId)).isZero();
+        mockMvc.perform(authorized(get("/api/projects/" + projectId + "/deletion"))).andExpect(status().isNotFound());
+        assertThat(projectDeletionService.purgeDeletedProjects()).isZero();
+    }
+
+    @Test
+    @DisplayName("DELETE - defers a large project whose task counter is behind, going by its actual tasks")
+    void deleteLargeProject_WithStaleCounter_ShouldStillDefer() throws Exception {
+        Long projectId = projectWithTasks(7);
+        // As for a project whose tasks predate the counters
+        jdbcTemplate.update("UPDATE projects SET total_tasks = 0, completed_tasks = 0 WHERE id = ?", projectId);
+
+        mockMvc.perform(authorized(delete("/api/projects/" + projectId))).andExpect(status().isAccepted());
+
+        assertThat(taskRepository.countByProjectId(projectId)).isEqualTo(7);
+        mockMvc.perform(authorized(get("/api/projects/" + projectId + "/deletion")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalTasks").value(7))
+                .andExpect(jsonPath("$.remainingTasks").value(7))
+                .andExpect(jsonPath("$.progressPercentage").value(0.0));
+
+        assertThat(projectDeletionService.purgeProject(projectId)).isEqualTo(7);
+        assertThat(taskRepository.countByProjectId(projectId)).isZero();
+    }
+
+    @Test
+    @DisplayName("purgeProject() - deletes the tasks chunk by chunk before the project row")
+    void purgeProject_ShouldDeleteAllTasksAcrossChunks() throws Exception {
+        Long projectId = projectWithTasks(8);
+        Long keptProjectId = projectWithTasks(2);
+        mockMvc.perform(authorized(delete("/api/projects/" + projectId))).andExpect(status().isAccepted());
+
+        assertThat(projectDeletionService.purgeProject(projectId)).isEqualTo(8);
+
+        assertThat(taskRepository.countByProjectId(projectId)).isZero();
+        assertThat(taskRepository.countByProjectId(keptProjectId)).isEqualTo(2);
+        mockMvc.perform(authorized(get("/api/projects/" + keptProjectId))).andExpect(status().isOk());
+    }
+}
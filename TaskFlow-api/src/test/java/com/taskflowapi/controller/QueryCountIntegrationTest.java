@@ -0,0 +1,242 @@
+package com.taskflowapi.controller;
+
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.dto.TaskBatchOperation;
+import com.taskflowapi.dto.TaskBatchRequest;
+import com.taskflowapi.dto.TaskRequest;
+import com.taskflowapi.entity.User;
+import com.taskflowapi.filter.QueryCountFilter;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.security.JwtUtil;
+import com.taskflowapi.service.ProjectService;
+import com.taskflowapi.service.TaskService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs every endpoint against a realistic dataset and fails when a request issues more SQL statements than its budget.
+ * Statements are counted by the same Hibernate inspector that feeds the taskflow.request.queries metric, so hidden
+ * lazy loads (including ones triggered by toString/equals on entities) show up here.
+ * A JDBC batch counts once. Budgets assume a warm principal cache; raise one only in the change that needs it.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Per-request SQL statement budgets")
+class QueryCountIntegrationTest {
+
+    private static final int PROJECTS = 8;
+    private static final int TASKS_PER_PROJECT = 60;
+    // Task ids come from a pooled sequence; a request that exhausts the current block fetches the next one
+    private static final int SEQUENCE_FETCH = 1;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String token;
+    private Long userId;
+    private final List<Long> projectIds = new ArrayList<>();
+    private Long smallProjectId;
+    private Long singleTaskProjectId;
+
+    @BeforeAll
+    void seed() throws Exception {
+        User user = new User();
+        user.setEmail("querycount@example.com");
+        user.setName("Query Count");
+        user.setPasswordHash(passwordEncoder.encode("password123"));
+        userId = userRepository.save(user).getId();
+        token = "Bearer " + jwtUtil.generateToken(user.getEmail(), userId);
+
+        for (int p = 0; p < PROJECTS; p++) {
+            Long projectId = projectService.createProject(new ProjectRequest("Project " + p, "Budget test project"), userId).getId();
+            List<TaskBatchOperation> operations = new ArrayList<>();
+            for (int t = 0; t < TASKS_PER_PROJECT; t++) {
+                operations.add(new TaskBatchOperation(TaskBatchOperation.Type.CREATE, null, "Task " + t, "Description " + t,
+                        LocalDate.now().plusDays(t - TASKS_PER_PROJECT / 2)));
+            }
+            taskService.executeBatch(projectId, new TaskBatchRequest(operations), userId);
+            projectIds.add(projectId);
+        }
+        smallProjectId = projectService.createProject(new ProjectRequest("Small", "One task"), userId).getId();
+        taskService.createTask(smallProjectId, new TaskRequest("Only task", null, LocalDate.now()), userId);
+        singleTaskProjectId = projectService.createProject(new ProjectRequest("Single", "One task"), userId).getId();
+        taskService.createTask(singleTaskProjectId, new TaskRequest("Only task", null, LocalDate.now()), userId);
+
+        // Warm the principal cache so budgets don't depend on test order
+        mockMvc.perform(get("/api/projects").header("Authorization", token)).andExpect(status().isOk());
+    }
+
+    private long statements(MockHttpServletRequestBuilder request, int expectedStatus) throws Exception {
+        double before = totalStatements();
+        mockMvc.perform(request.header("Authorization", token)).andExpect(status().is(expectedStatus));
+        return Math.round(totalStatements() - before);
+    }
+
+    private double totalStatements() {
+        return meterRegistry.find(QueryCountFilter.METRIC_NAME).summaries().stream()
+                .mapToDouble(DistributionSummary::totalAmount)
+                .sum();
+    }
+
+    private void assertBudget(MockHttpServletRequestBuilder request, int expectedStatus, int budget) throws Exception {
+        assertThat(statements(request, expectedStatus))
+                .as("SQL statements for %s", request.buildRequest(new MockServletContext()).getRequestURI())
+                .isLessThanOrEqualTo(budget);
+    }
+
+    private Long taskId(int projectIndex, int taskIndex) {
+        return taskService.getProjectTasks(projectIds.get(projectIndex), userId).get(taskIndex).getId();
+    }
+
+    private MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, String body) {
+        return request.contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+
+    @Test
+    @DisplayName("GET /api/projects - Budget: Should list projects with the version query and one load")
+    void getProjects_ShouldStayWithinBudget() throws Exception {
+        assertBudget(get("/api/projects"), 200, 2);
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{id} - Budget: Should load a project and its progress in a fixed number of statements")
+    void getProject_ShouldStayWithinBudget() throws Exception {
+        assertBudget(get("/api/projects/" + projectIds.get(0)), 200, 2);
+        assertBudget(get("/api/projects/" + projectIds.get(0) + "/progress"), 200, 1);
+    }
+
+    @Test
+    @DisplayName("POST/PUT /api/projects - Budget: Should create and update a project without loading its tasks")
+    void writeProject_ShouldStayWithinBudget() throws Exception {
+        assertBudget(json(post("/api/projects"), "{\"title\":\"New\",\"description\":\"Created\"}"), 201, 2);
+        assertBudget(json(put("/api/projects/" + projectIds.get(3)), "{\"title\":\"Renamed\",\"description\":\"Updated\"}"), 200, 2);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/projects/{id} - Budget: Should delete a project and its tasks in a fixed number of statements")
+    void deleteProject_ShouldStayWithinBudget() throws Exception {
+        assertBudget(delete("/api/projects/" + projectIds.get(1)), 204, 4);
+        assertBudget(delete("/api/projects/" + smallProjectId), 204, 4);
+    }
+
+    @Test
+    @DisplayName("GET /api/dashboard - Budget: Should build the dashboard in one statement")
+    void getDashboard_ShouldStayWithinBudget() throws Exception {
+        assertBudget(get("/api/dashboard"), 200, 1);
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{id}/tasks - Budget: Should not issue more statements for larger projects")
+    void getProjectTasks_ShouldNotScaleWithTaskCount() throws Exception {
+        // The project list is a projection and no longer fills the project cache, so warm both ownership lookups
+        statements(get("/api/projects/" + projectIds.get(0) + "/tasks"), 200);
+        statements(get("/api/projects/" + singleTaskProjectId + "/tasks"), 200);
+
+        long large = statements(get("/api/projects/" + projectIds.get(0) + "/tasks"), 200);
+        long small = statements(get("/api/projects/" + singleTaskProjectId + "/tasks"), 200);
+
+        assertThat(large).isLessThanOrEqualTo(3);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("GET with If-None-Match - Budget: Should answer 304 with only the version query")
+    void conditionalGet_WhenUnchanged_ShouldStayWithinBudget() throws Exception {
+        for (String uri : List.of("/api/projects", "/api/projects/" + projectIds.get(0), "/api/projects/" + projectIds.get(0) + "/tasks")) {
+            String etag = mockMvc.perform(get(uri).header("Authorization", token))
+                    .andReturn().getResponse().getHeader("ETag");
+            assertBudget(get(uri).header("If-None-Match", etag), 304, 1);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{id}/tasks/page - Budget: Should page through tasks without per-row loads")
+    void getProjectTasksPage_ShouldStayWithinBudget() throws Exception {
+        // A page that runs out of dated tasks also reads the undated segment
+        assertBudget(get("/api/projects/" + projectIds.get(0) + "/tasks/page?limit=50"), 200, 3);
+        assertBudget(get("/api/projects/" + projectIds.get(0) + "/tasks/page?limit=100"), 200, 4);
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/search - Budget: Should rank matches and load the page in two statements")
+    void searchTasks_ShouldStayWithinBudget() throws Exception {
+        assertBudget(get("/api/tasks/search?q=description&limit=50"), 200, 2);
+    }
+
+    @Test
+    @DisplayName("POST /api/projects/{id}/tasks - Budget: Should create a task without loading the project")
+    void createTask_ShouldStayWithinBudget() throws Exception {
+        assertBudget(json(post("/api/projects/" + projectIds.get(5) + "/tasks"), "{\"title\":\"Created\"}"), 201, 3 + SEQUENCE_FETCH);
+    }
+
+    @Test
+    @DisplayName("PATCH/DELETE /api/tasks/{id} - Budget: Should toggle, update and delete a task in a fixed number of statements")
+    void writeTask_ShouldStayWithinBudget() throws Exception {
+        assertBudget(patch("/api/tasks/" + taskId(6, 0) + "/complete"), 200, 3);
+        assertBudget(json(patch("/api/tasks/" + taskId(6, 1)), "{\"title\":\"Changed\"}"), 200, 2);
+        assertBudget(delete("/api/tasks/" + taskId(6, 2)), 204, 3);
+    }
+
+    @Test
+    @DisplayName("POST /api/projects/{id}/tasks:batch - Budget: Should not issue more statements for larger batches")
+    void executeBatch_ShouldNotScaleWithOperationCount() throws Exception {
+        String small = "{\"operations\":[{\"op\":\"CREATE\",\"title\":\"a\"},{\"op\":\"TOGGLE\",\"taskId\":" + taskId(7, 0) + "}]}";
+        StringBuilder large = new StringBuilder("{\"operations\":[");
+        for (int i = 0; i < 20; i++) {
+            large.append("{\"op\":\"CREATE\",\"title\":\"b").append(i).append("\"},");
+            large.append("{\"op\":\"TOGGLE\",\"taskId\":").append(taskId(7, i + 1)).append("},");
+        }
+        large.setLength(large.length() - 1);
+        large.append("]}");
+
+        assertBudget(json(post("/api/projects/" + projectIds.get(7) + "/tasks:batch"), small), 200, 5 + SEQUENCE_FETCH);
+        assertBudget(json(post("/api/projects/" + projectIds.get(7) + "/tasks:batch"), large.toString()), 200, 5 + SEQUENCE_FETCH);
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/login - Budget: Should log in with one statement")
+    void login_ShouldStayWithinBudget() throws Exception {
+        assertBudget(json(post("/api/auth/login"), "{\"email\":\"querycount@example.com\",\"password\":\"password123\"}"), 200, 1);
+    }
+}
@@ -0,0 +1,108 @@
+package com.taskflowapi.controller;
+
+import com.taskflowapi.entity.User;
+import com.taskflowapi.filter.RateLimitFilter;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.security.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Tiny limits so a few requests reach them; the test profile otherwise turns rate limiting off
+@SpringBootTest(properties = {
+        "taskflow.rate-limit.enabled=true",
+        "taskflow.rate-limit.reads.limit=3",
+        "taskflow.rate-limit.writes.limit=1",
+        "taskflow.rate-limit.auth.limit=2"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("Rate limit integration tests")
+class RateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String newUserToken() {
+        User user = new User();
+        user.setEmail("ratelimit-" + UUID.randomUUID() + "@example.com");
+        user.setName("Rate Limited");
+        user.setPasswordHash("not-used");
+        Long userId = userRepository.save(user).getId();
+        return "Bearer " + jwtUtil.generateToken(user.getEmail(), userId);
+    }
+
+    @Test
+    @DisplayName("GET /api/projects - Failure: Should answer 429 with RateLimit headers once a user's reads are used up")
+    void reads_OverLimit_ShouldRejectWith429() throws Exception {
+        String token = newUserToken();
+
+        for (int remaining = 2; remaining >= 0; remaining--) {
+            mockMvc.perform(get("/api/projects").header(HttpHeaders.AUTHORIZATION, token))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("RateLimit-Limit", "3"))
+                    .andExpect(header().string("RateLimit-Remaining", String.valueOf(remaining)))
+                    .andExpect(header().string("RateLimit-Policy", "3;w=60"))
+                    .andExpect(header().exists("RateLimit-Reset"));
+        }
+
+        mockMvc.perform(get("/api/projects").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "20"))
+                .andExpect(header().string("RateLimit-Remaining", "0"))
+                .andExpect(jsonPath("$.status").value(429));
+        assertThat(meterRegistry.get(RateLimitFilter.METRIC_NAME).tag("class", "reads").counter().count()).isEqualTo(1.0);
+
+        // Another user, and this user's writes, have buckets of their own
+        mockMvc.perform(get("/api/projects").header(HttpHeaders.AUTHORIZATION, newUserToken()))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/projects").header(HttpHeaders.AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Still allowed\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("RateLimit-Limit", "1"));
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/login - Failure: Should limit login requests per client address")
+    void auth_OverLimit_ShouldRejectWith429() throws Exception {
+        String body = "{\"email\":\"nobody@example.com\",\"password\":\"password123\"}";
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/auth/login").with(request -> {
+                        request.setRemoteAddr("198.51.100.20");
+                        return request;
+                    }).contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(post("/api/auth/login").with(request -> {
+                    request.setRemoteAddr("198.51.100.20");
+                    return request;
+                }).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("RateLimit-Limit", "2"));
+    }
+}
@@ -0,0 +1,124 @@
+package com.taskflowapi.controller;
+
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.dto.TaskRequest;
+import com.taskflowapi.entity.User;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.security.JwtUtil;
+import com.taskflowapi.service.ExportService;
+import com.taskflowapi.service.ProjectService;
+import com.taskflowapi.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// A real server, since MockMvc doesn't enforce async timeouts; the container default is lowered far below the stream's
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.mvc.async.request-timeout=200ms")
+@ActiveProfiles("test")
+@DisplayName("Streamed response timeout integration tests")
+class StreamingTimeoutIntegrationTest {
+
+    private static final long SLOW_STREAM_MILLIS = 1000;
+    private static final int TASKS = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @MockitoSpyBean
+    private TaskService taskService;
+
+    @MockitoSpyBean
+    private ExportService exportService;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private String token;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.findByEmail("jane@example.com").orElseThrow();
+        token = "Bearer " + jwtUtil.generateToken(user.getEmail(), user.getId());
+        projectId = projectService.createProject(new ProjectRequest("Slow stream", null), user.getId()).getId();
+        for (int i = 0; i < TASKS; i++) {
+            taskService.createTask(projectId, new TaskRequest("Task " + i, null, null), user.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{id}/tasks?stream=true - Success: Should complete a stream that outlasts the default async timeout")
+    void streamProjectTasks_SlowerThanDefaultTimeout_ShouldComplete() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            Thread.sleep(SLOW_STREAM_MILLIS);
+            return invocation.callRealMethod();
+        }).when(taskService).forEachProjectTask(anyLong(), anyLong(), any());
+
+        // Act
+        HttpResponse<String> response = get("/api/projects/" + projectId + "/tasks?stream=true");
+
+        // Assert
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(jsonMapper.readTree(response.body()).size()).isEqualTo(TASKS);
+    }
+
+    @Test
+    @DisplayName("GET /api/export - Success: Should complete an export that outlasts the default async timeout")
+    void export_SlowerThanDefaultTimeout_ShouldComplete() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            Thread.sleep(SLOW_STREAM_MILLIS);
+            return invocation.callRealMethod();
+        }).when(exportService).export(anyLong(), any(), any());
+
+        // Act
+        HttpResponse<String> response = get("/api/export?format=ndjson");
+
+        // Assert
+        assertThat(response.statusCode()).isEqualTo(200);
+        // The newest project comes last, followed by all of its tasks
+        List<JsonNode> lines = response.body().lines().map(jsonMapper::readTree).toList();
+        JsonNode lastProject = lines.get(lines.size() - TASKS - 1);
+        assertThat(lastProject.get("project").get("id").asLong()).isEqualTo(projectId);
+        assertThat(lines.subList(lines.size() - TASKS, lines.size()))
+                .allSatisfy(line -> assertThat(line.get("type").asString()).isEqualTo("task"));
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", token)
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,193 @@
+package com.taskflowapi.controller;
+
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.dto.TaskResponse;
+import com.taskflowapi.entity.User;
+import com.taskflowapi.repository.ProjectRepository;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.security.JwtUtil;
+import com.taskflowapi.service.ProjectService;
+import com.taskflowapi.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Small batches and error cap, so a handful of rows already spans several insert transactions
+@SpringBootTest(properties = {"taskflow.import.batch-size=3", "taskflow.import.max-reported-errors=2"})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("Task import integration tests")
+class TaskImportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @MockitoSpyBean
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private Long userId;
+    private String token;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setEmail("import-" + UUID.randomUUID() + "@example.com");
+        user.setName("Importer");
+        user.setPasswordHash("not-used");
+        userId = userRepository.save(user).getId();
+        token = "Bearer " + jwtUtil.generateToken(user.getEmail(), userId);
+        projectId = projectService.createProject(new ProjectRequest("Imports", null), userId).getId();
+    }
+
+    private ResultActions importBody(String contentType, String body) throws Exception {
+        return mockMvc.perform(post("/api/projects/" + projectId + "/tasks:import")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType(contentType)
+                .content(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private JsonNode json(ResultActions result) throws Exception {
+        return jsonMapper.readTree(result.andReturn().getResponse().getContentAsString());
+    }
+
+    @Test
+    @DisplayName("NDJSON - imports valid lines across batches and reports the invalid ones by line")
+    void importNdjson_ReportsInvalidLines() throws Exception {
+        String body = String.join("\n",
+                "{\"title\":\"One\",\"dueDate\":\"2026-05-01\"}",
+                "{\"title\":\"Two\",\"description\":\"Second\"}",
+                "",
+                "{\"title\":\"\"}",
+                "{\"title\":\"Three\"}",
+                "not json",
+                "{\"title\":\"Four\"}",
+                "{\"title\":\"Five\"}") + "\n";
+
+        JsonNode response = json(importBody("application/x-ndjson", body).andExpect(status().isOk()));
+
+        assertThat(response.get("imported").asLong()).isEqualTo(5);
+        assertThat(response.get("failed").asLong()).isEqualTo(2);
+        assertThat(response.get("errorsTruncated").asBoolean()).isFalse();
+        assertThat(response.get("errors").get(0).get("row").asLong()).isEqualTo(4);
+        assertThat(response.get("errors").get(0).get("messages").get(0).asString()).isEqualTo("Title is required");
+        assertThat(response.get("errors").get(1).get("row").asLong()).isEqualTo(6);
+
+        List<TaskResponse> tasks = taskService.getProjectTasks(projectId, userId);
+        assertThat(tasks).extracting(TaskResponse::getTitle).containsExactly("One", "Two", "Three", "Four", "Five");
+        assertThat(tasks.get(0).getDueDate()).isEqualTo(LocalDate.of(2026, 5, 1));
+        assertThat(projectService.getProjectProgress(projectId, userId).getTotalTasks()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("CSV - reads quoted fields with commas and line breaks, ignores unknown columns")
+    void importCsv_QuotedFields() throws Exception {
+        String body = "id,Title,description,due_date\r\n"
+                + "1,Plain,,2026-03-01\r\n"
+                + "2,\"Comma, \"\"quoted\"\"\",\"Line one\nline two\",\r\n"
+                + "3,Bad date,,tomorrow\r\n";
+
+        JsonNode response = json(importBody("text/csv", body).andExpect(status().isOk()));
+
+        assertThat(response.get("imported").asLong()).isEqualTo(2);
+        assertThat(response.get("failed").asLong()).isEqualTo(1);
+        assertThat(response.get("errors").get(0).get("row").asLong()).isEqualTo(3);
+
+        List<TaskResponse> tasks = taskService.getProjectTasks(projectId, userId);
+        assertThat(tasks).extracting(TaskResponse::getTitle).containsExactly("Plain", "Comma, \"quoted\"");
+        assertThat(tasks.get(0).getDescription()).isNull();
+        assertThat(tasks.get(1).getDescription()).isEqualTo("Line one\nline two");
+    }
+
+    @Test
+    @DisplayName("Error report - stops listing after the cap but still counts every failure")
+    void importNdjson_TruncatesErrorReport() throws Exception {
+        String body = "{}\n{}\n{}\n{\"title\":\"Kept\"}\n";
+
+        JsonNode response = json(importBody("application/x-ndjson", body).andExpect(status().isOk()));
+
+        assertThat(response.get("imported").asLong()).isEqualTo(1);
+        assertThat(response.get("failed").asLong()).isEqualTo(3);
+        assertThat(response.get("errors")).hasSize(2);
+        assertThat(response.get("errorsTruncated").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Failed chunk - reports its rows without the database error and imports the next chunk")
+    void importNdjson_FailedChunk_HidesDatabaseError() throws Exception {
+        // Only the first, full chunk fails, after its inserts were sent
+        doThrow(new DataIntegrityViolationException("could not execute statement [insert into tasks (title) values (?)]"))
+                .when(projectRepository).adjustTaskCounters(eq(projectId), eq(3L), eq(0L));
+        String body = "{\"title\":\"One\"}\n{\"title\":\"Two\"}\n{\"title\":\"Three\"}\n{\"title\":\"Four\"}\n";
+
+        JsonNode response = json(importBody("application/x-ndjson", body).andExpect(status().isOk()));
+
+        assertThat(response.get("imported").asLong()).isEqualTo(1);
+        assertThat(response.get("failed").asLong()).isEqualTo(3);
+        assertThat(response.get("errors").get(0).get("row").asLong()).isEqualTo(1);
+        assertThat(response.get("errors").get(0).get("messages").get(0).asString())
+                .isEqualTo("Could not be saved, please retry");
+        assertThat(response.toString()).doesNotContain("insert into", "could not execute");
+        assertThat(taskService.getProjectTasks(projectId, userId)).extracting(TaskResponse::getTitle).containsExactly("Four");
+    }
+
+    @Test
+    @DisplayName("Rejects bodies without a title column or with an unsupported content type")
+    void importTasks_BadRequest() throws Exception {
+        importBody("text/csv", "name,description\nx,y\n").andExpect(status().isBadRequest());
+        importBody(MediaType.APPLICATION_JSON_VALUE, "[]").andExpect(status().isBadRequest());
+
+        assertThat(taskService.getProjectTasks(projectId, userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Rejects imports into another user's project")
+    void importTasks_OtherUsersProject() throws Exception {
+        Long otherProjectId = projectService.createProject(new ProjectRequest("Other", null),
+                userRepository.findByEmail("jane@example.com").orElseThrow().getId()).getId();
+
+        mockMvc.perform(post("/api/projects/" + otherProjectId + "/tasks:import")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .contentType("application/x-ndjson")
+                        .content("{\"title\":\"Sneaky\"}\n"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,139 @@
+package com.taskflowapi.controller;
+
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.dto.TaskRequest;
+import com.taskflowapi.entity.User;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.security.JwtUtil;
+import com.taskflowapi.service.ProjectService;
+import com.taskflowapi.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("Task search integration tests")
+class TaskSearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private Long userId;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        User user = newUser();
+        userId = user.getId();
+        token = "Bearer " + jwtUtil.generateToken(user.getEmail(), userId);
+    }
+
+    private User newUser() {
+        User user = new User();
+        user.setEmail("search-" + UUID.randomUUID() + "@example.com");
+        user.setName("Searcher");
+        user.setPasswordHash("not-used");
+        return userRepository.save(user);
+    }
+
+    private JsonNode search(String query) throws Exception {
+        String body = mockMvc.perform(get("/api/tasks/search" + query).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return jsonMapper.readTree(body);
+    }
+
+    private List<String> titles(JsonNode response) {
+        List<String> titles = new ArrayList<>();
+        response.get("items").forEach(hit -> titles.add(hit.get("task").get("title").asString()));
+        return titles;
+    }
+
+    @Test
+    @DisplayName("Ranks title matches above description matches, across the user's projects only")
+    void search_RanksAndScopesToUser() throws Exception {
+        Long work = projectService.createProject(new ProjectRequest("Work", null), userId).getId();
+        Long home = projectService.createProject(new ProjectRequest("Home", null), userId).getId();
+        taskService.createTask(work, new TaskRequest("Write notes", "For the quarterly <budget> review", null), userId);
+        taskService.createTask(home, new TaskRequest("Budget for holidays", null, null), userId);
+        taskService.createTask(home, new TaskRequest("Groceries", "Milk", null), userId);
+        Long otherUser = newUser().getId();
+        Long foreign = projectService.createProject(new ProjectRequest("Foreign", null), otherUser).getId();
+        taskService.createTask(foreign, new TaskRequest("Budget of someone else", null, null), otherUser);
+
+        JsonNode response = search("?q=BUDGET");
+
+        assertThat(titles(response)).containsExactly("Budget for holidays", "Write notes");
+        assertThat(response.get("hasMore").asBoolean()).isFalse();
+        JsonNode first = response.get("items").get(0);
+        assertThat(first.get("titleHighlight").asString()).isEqualTo("<mark>Budget</mark> for holidays");
+        assertThat(first.get("score").asDouble()).isGreaterThan(response.get("items").get(1).get("score").asDouble());
+        assertThat(response.get("items").get(1).get("descriptionHighlight").asString())
+                .isEqualTo("For the quarterly &lt;<mark>budget</mark>&gt; review");
+    }
+
+    @Test
+    @DisplayName("Requires every term and pages through the ranked results")
+    void search_AllTermsAndPagination() throws Exception {
+        Long projectId = projectService.createProject(new ProjectRequest("Releases", null), userId).getId();
+        for (int i = 0; i < 5; i++) {
+            taskService.createTask(projectId, new TaskRequest("Release notes " + i, null, null), userId);
+        }
+        taskService.createTask(projectId, new TaskRequest("Release party", null, null), userId);
+
+        JsonNode first = search("?q=release+notes&limit=3");
+        JsonNode second = search("?q=release+notes&limit=3&page=1");
+
+        assertThat(titles(first)).hasSize(3);
+        assertThat(first.get("hasMore").asBoolean()).isTrue();
+        assertThat(titles(second)).hasSize(2);
+        assertThat(second.get("hasMore").asBoolean()).isFalse();
+        List<String> all = new ArrayList<>(titles(first));
+        all.addAll(titles(second));
+        assertThat(all).doesNotContain("Release party").doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Rejects queries without a searchable word and pages past the result cap")
+    void search_BadRequests() throws Exception {
+        mockMvc.perform(get("/api/tasks/search?q=a+b").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks/search").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks/search?q=budget&page=100&limit=50").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isBadRequest());
+    }
+}
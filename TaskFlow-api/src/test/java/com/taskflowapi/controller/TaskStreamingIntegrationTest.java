@@ -0,0 +1,112 @@
+package com.taskflowapi.controller;
+
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.dto.TaskBatchOperation;
+import com.taskflowapi.dto.TaskBatchRequest;
+import com.taskflowapi.entity.User;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.security.JwtUtil;
+import com.taskflowapi.service.ProjectService;
+import com.taskflowapi.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("Streamed task list integration tests")
+class TaskStreamingIntegrationTest {
+
+    // More than one JDBC fetch of the streaming query
+    private static final int TASKS = 1200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String token;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.findByEmail("jane@example.com").orElseThrow();
+        token = "Bearer " + jwtUtil.generateToken(user.getEmail(), user.getId());
+        projectId = projectService.createProject(new ProjectRequest("Streaming", "Large project"), user.getId()).getId();
+        List<TaskBatchOperation> operations = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            operations.add(new TaskBatchOperation(TaskBatchOperation.Type.CREATE, null, "Task " + i, "Description " + i,
+                    i % 3 == 0 ? null : LocalDate.now().plusDays(i % 30)));
+        }
+        taskService.executeBatch(projectId, new TaskBatchRequest(operations), user.getId());
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{id}/tasks?stream=true - Success: Should stream the same tasks as the buffered list")
+    void streamProjectTasks_ShouldMatchBufferedList() throws Exception {
+        // Arrange
+        String uri = "/api/projects/" + projectId + "/tasks";
+        String buffered = mockMvc.perform(get(uri).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Act
+        MvcResult started = mockMvc.perform(get(uri).param("stream", "true").header("Authorization", token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String streamed = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        JsonNode streamedTasks = jsonMapper.readTree(streamed);
+        assertThat(streamedTasks.size()).isEqualTo(TASKS);
+        assertThat(streamedTasks).containsExactlyInAnyOrderElementsOf(jsonMapper.readTree(buffered));
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{id}/tasks?stream=true - Failure: Should reject another user's project before streaming")
+    void streamProjectTasks_ForAnotherUsersProject_ShouldBeRejected() throws Exception {
+        // Arrange
+        User john = userRepository.findByEmail("john@example.com").orElseThrow();
+        String johnToken = "Bearer " + jwtUtil.generateToken(john.getEmail(), john.getId());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/projects/" + projectId + "/tasks").param("stream", "true").header("Authorization", johnToken))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().is4xxClientError());
+    }
+}
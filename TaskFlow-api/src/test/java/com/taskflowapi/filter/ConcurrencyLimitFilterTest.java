@@ -0,0 +1,104 @@
+package com.taskflowapi.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConcurrencyLimitFilter Unit Tests")
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    @DisplayName("doFilter() - Success: Should pass the request through and release the permit")
+    void doFilter_WithFreePermit_ShouldPassThrough() throws Exception {
+        // Arrange
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/projects"), response,
+                (req, res) -> assertThat(filter.getInFlight()).isEqualTo(1));
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(filter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("doFilter() - Failure: Should reject with 503 when all permits are held past the timeout")
+    void doFilter_WithNoFreePermit_ShouldRejectWith503() throws Exception {
+        // Arrange
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/projects"), new MockHttpServletResponse(),
+                        (req, res) -> {
+                            entered.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        holder.start();
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/projects"), response,
+                (req, res) -> fail("request should have been rejected"));
+        release.countDown();
+        holder.join();
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(filter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("doFilter() - Success: Should hold the permit of an async request until it completes")
+    void doFilter_WithAsyncRequest_ShouldReleaseOnComplete() throws Exception {
+        // Arrange
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/export");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+        int inFlightWhileStreaming = filter.getInFlight();
+        request.getAsyncContext().complete();
+
+        // Assert
+        assertThat(inFlightWhileStreaming).isEqualTo(1);
+        assertThat(filter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("doFilter() - Success: Should not take a permit for the change stream")
+    void doFilter_WithChangeStream_ShouldNotTakePermit() throws Exception {
+        // Arrange
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/events"), response,
+                (req, res) -> assertThat(filter.getInFlight()).isZero());
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+}
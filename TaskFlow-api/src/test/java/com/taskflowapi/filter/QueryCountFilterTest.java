@@ -0,0 +1,56 @@
+package com.taskflowapi.filter;
+
+import com.taskflowapi.config.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("QueryCountFilter Unit Tests")
+class QueryCountFilterTest {
+
+    @Test
+    @DisplayName("doFilter() - Success: Should record the statements issued by the request under its endpoint pattern")
+    void doFilter_WithStatements_ShouldRecordCountPerEndpoint() throws Exception {
+        // Arrange
+        SqlStatementCounter counter = new SqlStatementCounter();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        QueryCountFilter filter = new QueryCountFilter(counter, registry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects/7");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            counter.inspect("select 1");
+            counter.inspect("select 2");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/projects/{id}");
+        });
+
+        // Assert
+        DistributionSummary summary = registry.get(QueryCountFilter.METRIC_NAME)
+                .tag("uri", "/api/projects/{id}")
+                .tag("method", "GET")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+        assertThat(counter.current()).isZero();
+    }
+
+    @Test
+    @DisplayName("inspect() - Success: Should not count statements outside a request")
+    void inspect_OutsideRequest_ShouldNotCount() {
+        // Arrange
+        SqlStatementCounter counter = new SqlStatementCounter();
+
+        // Act
+        String sql = counter.inspect("select 1");
+
+        // Assert
+        assertThat(sql).isEqualTo("select 1");
+        assertThat(counter.current()).isZero();
+    }
+}
@@ -0,0 +1,68 @@
+package com.taskflowapi.security;
+
+import com.taskflowapi.entity.User;
+import com.taskflowapi.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomUserDetailsService Unit Tests")
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private CustomUserDetailsService userDetailsService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setEmail("john@example.com");
+        testUser.setName("John Doe");
+        testUser.setPasswordHash("$2a$10$hashedPassword");
+    }
+
+    @Test
+    @DisplayName("loadPrincipalById() - Success: Should return principal without the password hash")
+    void loadPrincipalById_WithExistingUser_ShouldReturnPrincipal() {
+        // Arrange
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+
+        // Act
+        AuthenticatedUser principal = userDetailsService.loadPrincipalById(testUser.getId());
+
+        // Assert
+        assertThat(principal.getUserId()).isEqualTo(testUser.getId());
+        assertThat(principal.getEmail()).isEqualTo(testUser.getEmail());
+
+        verify(userRepository, times(1)).findById(testUser.getId());
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("loadPrincipalById() - Failure: Should throw UsernameNotFoundException when user was deleted")
+    void loadPrincipalById_WithDeletedUser_ShouldThrowUsernameNotFoundException() {
+        // Arrange
+        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> userDetailsService.loadPrincipalById(999L))
+                .isInstanceOf(UsernameNotFoundException.class)
+                .hasMessage("User not found with id: 999");
+    }
+}
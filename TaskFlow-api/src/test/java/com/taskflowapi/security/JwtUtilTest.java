@@ -0,0 +1,68 @@
+package com.taskflowapi.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JwtUtil Unit Tests")
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-minimum-256-bits-long-for-HS256-algorithm";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = newJwtUtil(SECRET, 60_000L);
+    }
+
+    @Test
+    @DisplayName("parseToken() - Success: Should return principal with userId and email")
+    void parseToken_WithValidToken_ShouldReturnPrincipal() {
+        // Arrange
+        String token = jwtUtil.generateToken("john@example.com", 42L);
+
+        // Act
+        AuthenticatedUser principal = jwtUtil.parseToken(token);
+
+        // Assert
+        assertThat(principal.getUserId()).isEqualTo(42L);
+        assertThat(principal.getEmail()).isEqualTo("john@example.com");
+    }
+
+    @Test
+    @DisplayName("parseToken() - Failure: Should reject token signed with another key")
+    void parseToken_WithForeignSignature_ShouldThrow() {
+        // Arrange
+        String token = newJwtUtil("another-secret-key-minimum-256-bits-long-for-HS256-algo", 60_000L)
+                .generateToken("john@example.com", 42L);
+
+        // Act & Assert
+        assertThatThrownBy(() -> jwtUtil.parseToken(token))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("parseToken() - Failure: Should reject expired token")
+    void parseToken_WithExpiredToken_ShouldThrow() {
+        // Arrange
+        String token = newJwtUtil(SECRET, -1_000L).generateToken("john@example.com", 42L);
+
+        // Act & Assert
+        assertThatThrownBy(() -> jwtUtil.parseToken(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    private static JwtUtil newJwtUtil(String secret, long expiration) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "secret", secret);
+        ReflectionTestUtils.setField(util, "expiration", expiration);
+        util.init();
+        return util;
+    }
+}
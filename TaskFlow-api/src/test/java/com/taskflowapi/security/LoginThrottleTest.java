@@ -0,0 +1,79 @@
+package com.taskflowapi.security;
+
+import com.taskflowapi.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LoginThrottle Unit Tests")
+class LoginThrottleTest {
+
+    private static final String IP = "203.0.113.7";
+    private static final String EMAIL = "john@example.com";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        throttle = new LoginThrottle(meterRegistry, Duration.ofMinutes(1), 3, 2, nanos::get);
+    }
+
+    @Test
+    @DisplayName("checkAllowed() - Failure: Should reject an IP that used up its attempts until the window ends")
+    void checkAllowed_WithTooManyAttemptsFromIp_ShouldRejectUntilWindowEnds() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            throttle.checkAllowed("user" + i + "@example.com", IP);
+            throttle.recordAttempt(IP);
+        }
+        nanos.addAndGet(Duration.ofSeconds(20).toNanos());
+
+        // Act & Assert
+        assertThatThrownBy(() -> throttle.checkAllowed("other@example.com", IP))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 40L);
+        assertThatCode(() -> throttle.checkAllowed(EMAIL, "198.51.100.1")).doesNotThrowAnyException();
+        assertThat(meterRegistry.get(LoginThrottle.REJECTED_METRIC).tag("reason", "throttled").counter().count())
+                .isEqualTo(1.0);
+
+        nanos.addAndGet(Duration.ofSeconds(40).toNanos());
+        assertThatCode(() -> throttle.checkAllowed("other@example.com", IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("checkAllowed() - Failure: Should reject an email after repeated failures from any address")
+    void checkAllowed_WithRepeatedFailuresForEmail_ShouldReject() {
+        // Arrange
+        throttle.recordFailure(EMAIL);
+        throttle.recordFailure(" John@Example.com ");
+
+        // Act & Assert
+        assertThatThrownBy(() -> throttle.checkAllowed(EMAIL, "198.51.100.1"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessage("Too many login attempts, please retry later");
+        assertThatCode(() -> throttle.checkAllowed("jane@example.com", IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("recordSuccess() - Success: Should clear the failures of the email")
+    void recordSuccess_AfterFailures_ShouldResetEmail() {
+        // Arrange
+        throttle.recordFailure(EMAIL);
+
+        // Act
+        throttle.recordSuccess(EMAIL);
+        throttle.recordFailure(EMAIL);
+
+        // Assert
+        assertThatCode(() -> throttle.checkAllowed(EMAIL, IP)).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,104 @@
+package com.taskflowapi.security;
+
+import com.taskflowapi.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PasswordVerifier Unit Tests")
+class PasswordVerifierTest {
+
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordVerifier verifier;
+
+    @AfterEach
+    void tearDown() {
+        verifier.shutdown();
+    }
+
+    @Test
+    @DisplayName("matches() - Success: Should check the password on the hashing pool")
+    void matches_WithIdlePool_ShouldDelegate() {
+        // Arrange
+        verifier = new PasswordVerifier(passwordEncoder, meterRegistry, 1, 1, Duration.ofSeconds(1));
+        when(passwordEncoder.matches("password123", "hash")).thenAnswer(invocation -> {
+            assertThat(Thread.currentThread().getName()).startsWith("password-hash-");
+            return true;
+        });
+
+        // Act & Assert
+        assertThat(verifier.matches("password123", "hash")).isTrue();
+        assertThat(verifier.matches("wrong", "hash")).isFalse();
+        assertThat(meterRegistry.get(PasswordVerifier.QUEUE_METRIC + ".wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("matches() - Failure: Should reject with 429 when the threads are busy and the queue is full")
+    void matches_WithSaturatedPool_ShouldRejectImmediately() throws Exception {
+        // Arrange
+        verifier = new PasswordVerifier(passwordEncoder, meterRegistry, 1, 1, Duration.ofSeconds(5));
+        CountDownLatch hashing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(passwordEncoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            hashing.countDown();
+            release.await();
+            return true;
+        });
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> verifier.matches("a", "hash"));
+        assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> verifier.matches("b", "hash"));
+        await(() -> meterRegistry.get(PasswordVerifier.QUEUE_METRIC + ".depth").gauge().value() == 1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> verifier.matches("c", "hash"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 1L);
+        assertThat(meterRegistry.get(LoginThrottle.REJECTED_METRIC).tag("reason", "saturated").counter().count())
+                .isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("matches() - Failure: Should skip the hash for a check that waited past the queue timeout")
+    void matches_WithQueueTimeoutExceeded_ShouldRejectWithoutHashing() throws Exception {
+        // Arrange
+        verifier = new PasswordVerifier(passwordEncoder, meterRegistry, 1, 1, Duration.ofMillis(50));
+        CountDownLatch hashing = new CountDownLatch(1);
+        when(passwordEncoder.matches(eq("slow"), anyString())).thenAnswer(invocation -> {
+            hashing.countDown();
+            Thread.sleep(200);
+            return true;
+        });
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> verifier.matches("slow", "hash"));
+        assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act & Assert
+        assertThatThrownBy(() -> verifier.matches("late", "hash")).isInstanceOf(TooManyRequestsException.class);
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        verify(passwordEncoder, never()).matches(eq("late"), anyString());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.taskflowapi.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RateLimiter Unit Tests")
+class RateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new RateLimiter(Map.of(
+                RateLimiter.EndpointClass.READS, new RateLimiter.Policy(4, Duration.ofSeconds(4)),
+                RateLimiter.EndpointClass.WRITES, new RateLimiter.Policy(2, Duration.ofSeconds(10)),
+                RateLimiter.EndpointClass.AUTH, new RateLimiter.Policy(1, Duration.ofSeconds(1))
+        ), 1_000, nanos::get);
+    }
+
+    @Test
+    @DisplayName("tryAcquire() - Success: Should allow a full burst, then reject until a token is refilled")
+    void tryAcquire_AfterBurst_ShouldRejectUntilRefill() {
+        // Act
+        List<RateLimiter.Decision> burst = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            burst.add(rateLimiter.tryAcquire(RateLimiter.EndpointClass.READS, 1L));
+        }
+        RateLimiter.Decision rejected = rateLimiter.tryAcquire(RateLimiter.EndpointClass.READS, 1L);
+
+        // Assert
+        assertThat(burst).allMatch(RateLimiter.Decision::isAllowed);
+        assertThat(burst).extracting(RateLimiter.Decision::getRemaining).containsExactly(3L, 2L, 1L, 0L);
+        assertThat(rejected.isAllowed()).isFalse();
+        assertThat(rejected.getRemaining()).isZero();
+        assertThat(rejected.getRetryAfterNanos()).isEqualTo(Duration.ofSeconds(1).toNanos());
+        assertThat(rejected.getResetNanos()).isEqualTo(Duration.ofSeconds(4).toNanos());
+
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(rateLimiter.tryAcquire(RateLimiter.EndpointClass.READS, 1L).isAllowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire(RateLimiter.EndpointClass.READS, 1L).isAllowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("tryAcquire() - Success: Should keep separate buckets per key and per endpoint class")
+    void tryAcquire_WithDifferentKeysAndClasses_ShouldNotShareBuckets() {
+        // Arrange
+        rateLimiter.tryAcquire(RateLimiter.EndpointClass.WRITES, 1L);
+        rateLimiter.tryAcquire(RateLimiter.EndpointClass.WRITES, 1L);
+
+        // Act & Assert
+        assertThat(rateLimiter.tryAcquire(RateLimiter.EndpointClass.WRITES, 1L).isAllowed()).isFalse();
+        assertThat(rateLimiter.tryAcquire(RateLimiter.EndpointClass.WRITES, 2L).isAllowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire(RateLimiter.EndpointClass.READS, 1L).isAllowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire(RateLimiter.EndpointClass.AUTH, "203.0.113.7").isAllowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire(RateLimiter.EndpointClass.AUTH, "203.0.113.7").isAllowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("tryAcquire() - Success: Should refill completely and evict a bucket after an idle period")
+    void tryAcquire_AfterIdlePeriod_ShouldStartWithFullBucket() {
+        // Arrange
+        for (int i = 0; i < 4; i++) {
+            rateLimiter.tryAcquire(RateLimiter.EndpointClass.READS, 1L);
+        }
+
+        // Act
+        nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(RateLimiter.EndpointClass.READS, 1L);
+
+        // Assert
+        assertThat(decision.isAllowed()).isTrue();
+        assertThat(decision.getRemaining()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("tryAcquire() - Concurrency: Should never hand out more tokens than the limit")
+    void tryAcquire_FromManyThreads_ShouldAllowExactlyTheLimit() throws Exception {
+        // Arrange
+        RateLimiter limiter = new RateLimiter(Map.of(
+                RateLimiter.EndpointClass.READS, new RateLimiter.Policy(1_000, Duration.ofHours(1)),
+                RateLimiter.EndpointClass.WRITES, new RateLimiter.Policy(1, Duration.ofHours(1)),
+                RateLimiter.EndpointClass.AUTH, new RateLimiter.Policy(1, Duration.ofHours(1))
+        ), 1_000, nanos::get);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 500; i++) {
+                    if (limiter.tryAcquire(RateLimiter.EndpointClass.READS, 42L).isAllowed()) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // Act
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        assertThat(allowed.get()).isEqualTo(1_000);
+    }
+}
@@ -3,9 +3,12 @@ package com.taskflowapi.service;
 import com.taskflowapi.dto.LoginRequest;
 import com.taskflowapi.dto.LoginResponse;
 import com.taskflowapi.entity.User;
+import com.taskflowapi.exception.TooManyRequestsException;
 import com.taskflowapi.exception.UnauthorizedException;
 import com.taskflowapi.repository.UserRepository;
 import com.taskflowapi.security.JwtUtil;
+import com.taskflowapi.security.LoginThrottle;
+import com.taskflowapi.security.PasswordVerifier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,7 +16,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -26,11 +28,16 @@ import static org.mockito.Mockito.*;
 @DisplayName("AuthService Unit Tests")
 class AuthServiceTest {
 
+    private static final String CLIENT_IP = "203.0.113.7";
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordVerifier passwordVerifier;
+
+    @Mock
+    private LoginThrottle loginThrottle;
 
     @Mock
     private JwtUtil jwtUtil;
@@ -62,11 +69,11 @@ class AuthServiceTest {
         // Arrange
         String expectedToken = "jwt.token.here";
         when(userRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.of(testUser));
-        when(passwordEncoder.matches(loginRequest.getPassword(), testUser.getPasswordHash())).thenReturn(true);
+        when(passwordVerifier.matches(loginRequest.getPassword(), testUser.getPasswordHash())).thenReturn(true);
         when(jwtUtil.generateToken(testUser.getEmail(), testUser.getId())).thenReturn(expectedToken);
 
         // Act
-        LoginResponse response = authService.login(loginRequest);
+        LoginResponse response = authService.login(loginRequest, CLIENT_IP);
 
         // Assert
         assertThat(response).isNotNull();
@@ -75,8 +82,10 @@ class AuthServiceTest {
         assertThat(response.getName()).isEqualTo(testUser.getName());
 
         verify(userRepository, times(1)).findByEmail(loginRequest.getEmail());
-        verify(passwordEncoder, times(1)).matches(loginRequest.getPassword(), testUser.getPasswordHash());
+        verify(passwordVerifier, times(1)).matches(loginRequest.getPassword(), testUser.getPasswordHash());
         verify(jwtUtil, times(1)).generateToken(testUser.getEmail(), testUser.getId());
+        verify(loginThrottle, times(1)).recordAttempt(CLIENT_IP);
+        verify(loginThrottle, times(1)).recordSuccess(testUser.getEmail());
     }
 
     @Test
@@ -86,12 +95,12 @@ class AuthServiceTest {
         when(userRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> authService.login(loginRequest))
+        assertThatThrownBy(() -> authService.login(loginRequest, CLIENT_IP))
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessage("Invalid credentials");
 
         verify(userRepository, times(1)).findByEmail(loginRequest.getEmail());
-        verify(passwordEncoder, never()).matches(anyString(), anyString());
+        verify(passwordVerifier, never()).matches(anyString(), anyString());
         verify(jwtUtil, never()).generateToken(anyString(), anyLong());
     }
 
@@ -100,15 +109,49 @@ class AuthServiceTest {
     void login_WithIncorrectPassword_ShouldThrowUnauthorizedException() {
         // Arrange
         when(userRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.of(testUser));
-        when(passwordEncoder.matches(loginRequest.getPassword(), testUser.getPasswordHash())).thenReturn(false);
+        when(passwordVerifier.matches(loginRequest.getPassword(), testUser.getPasswordHash())).thenReturn(false);
 
         // Act & Assert
-        assertThatThrownBy(() -> authService.login(loginRequest))
+        assertThatThrownBy(() -> authService.login(loginRequest, CLIENT_IP))
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessage("Invalid credentials");
 
         verify(userRepository, times(1)).findByEmail(loginRequest.getEmail());
-        verify(passwordEncoder, times(1)).matches(loginRequest.getPassword(), testUser.getPasswordHash());
+        verify(passwordVerifier, times(1)).matches(loginRequest.getPassword(), testUser.getPasswordHash());
+        verify(jwtUtil, never()).generateToken(anyString(), anyLong());
+        verify(loginThrottle, times(1)).recordFailure(loginRequest.getEmail());
+        verify(loginThrottle, never()).recordSuccess(anyString());
+    }
+
+    @Test
+    @DisplayName("login() - Failure: Should reject a throttled client before looking up the user")
+    void login_WhenThrottled_ShouldThrowTooManyRequestsException() {
+        // Arrange
+        doThrow(new TooManyRequestsException("Too many login attempts, please retry later", 30))
+                .when(loginThrottle).checkAllowed(loginRequest.getEmail(), CLIENT_IP);
+
+        // Act & Assert
+        assertThatThrownBy(() -> authService.login(loginRequest, CLIENT_IP))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 30L);
+
+        verifyNoInteractions(userRepository, passwordVerifier, jwtUtil);
+        verify(loginThrottle, never()).recordAttempt(anyString());
+    }
+
+    @Test
+    @DisplayName("login() - Failure: Should pass on a saturated password pool without counting a failure")
+    void login_WhenPasswordPoolSaturated_ShouldThrowTooManyRequestsException() {
+        // Arrange
+        when(userRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.of(testUser));
+        when(passwordVerifier.matches(loginRequest.getPassword(), testUser.getPasswordHash()))
+                .thenThrow(new TooManyRequestsException("Too many logins in progress, please retry", 1));
+
+        // Act & Assert
+        assertThatThrownBy(() -> authService.login(loginRequest, CLIENT_IP))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        verify(loginThrottle, never()).recordFailure(anyString());
         verify(jwtUtil, never()).generateToken(anyString(), anyLong());
     }
 
@@ -120,7 +163,7 @@ class AuthServiceTest {
         when(userRepository.findByEmail(null)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> authService.login(loginRequest))
+        assertThatThrownBy(() -> authService.login(loginRequest, CLIENT_IP))
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessage("Invalid credentials");
 
@@ -133,15 +176,15 @@ class AuthServiceTest {
         // Arrange
         loginRequest.setPassword("");
         when(userRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.of(testUser));
-        when(passwordEncoder.matches("", testUser.getPasswordHash())).thenReturn(false);
+        when(passwordVerifier.matches("", testUser.getPasswordHash())).thenReturn(false);
 
         // Act & Assert
-        assertThatThrownBy(() -> authService.login(loginRequest))
+        assertThatThrownBy(() -> authService.login(loginRequest, CLIENT_IP))
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessage("Invalid credentials");
 
         verify(userRepository, times(1)).findByEmail(loginRequest.getEmail());
-        verify(passwordEncoder, times(1)).matches("", testUser.getPasswordHash());
+        verify(passwordVerifier, times(1)).matches("", testUser.getPasswordHash());
     }
 
     @Test
@@ -152,7 +195,7 @@ class AuthServiceTest {
         when(userRepository.findByEmail("JOHN@EXAMPLE.COM")).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> authService.login(loginRequest))
+        assertThatThrownBy(() -> authService.login(loginRequest, CLIENT_IP))
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessage("Invalid credentials");
 
@@ -0,0 +1,105 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.dto.ChangeEvent;
+import com.taskflowapi.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ChangeStreamService Unit Tests")
+class ChangeStreamServiceTest {
+
+    private final CountDownLatch unstall = new CountDownLatch(1);
+    private ChangeStreamService service;
+
+    @AfterEach
+    void tearDown() {
+        unstall.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("onChange() - Success: Clients that stopped reading should not hold back other users' events")
+    void onChange_WithStalledClients_ShouldStillDeliverToOthers() throws Exception {
+        // Arrange: more stalled clients than the old fixed pool had threads
+        service = newService(8, 8);
+        CountDownLatch stalled = new CountDownLatch(4);
+        for (long userId = 1; userId <= 4; userId++) {
+            service.subscribe(userId, null, new StalledEmitter(stalled));
+        }
+        assertThat(stalled.await(5, TimeUnit.SECONDS)).isTrue();
+        CountDownLatch delivered = new CountDownLatch(2);
+        service.subscribe(5L, null, new RecordingEmitter(delivered));
+
+        // Act
+        service.onChange(ChangeEvent.ofIds(ChangeEvent.Type.TASK_DELETED, 5L, 1L, 1L));
+
+        // Assert: the connect comment and the change both arrive
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("subscribe() - Failure: Should reject with 429 once a user has the maximum number of streams open")
+    void subscribe_OverPerUserLimit_ShouldReject() {
+        // Arrange
+        service = newService(4, 2);
+        service.subscribe(1L, null, new RecordingEmitter(new CountDownLatch(1)));
+        service.subscribe(1L, 7L, new RecordingEmitter(new CountDownLatch(1)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.subscribe(1L, null, new RecordingEmitter(new CountDownLatch(1))))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessage("Too many open event streams");
+        assertThatCode(() -> service.subscribe(2L, null, new RecordingEmitter(new CountDownLatch(1))))
+                .doesNotThrowAnyException();
+        assertThat(service.getOpenStreams()).isEqualTo(3);
+    }
+
+    private ChangeStreamService newService(int dispatchThreads, int maxStreamsPerUser) {
+        return new ChangeStreamService(mock(ProjectService.class), new SimpleMeterRegistry(), Duration.ofMinutes(1),
+                16, dispatchThreads, maxStreamsPerUser);
+    }
+
+    // A client whose socket buffer is full: the write blocks until the test ends
+    private final class StalledEmitter extends SseEmitter {
+
+        private final CountDownLatch stalled;
+
+        private StalledEmitter(CountDownLatch stalled) {
+            this.stalled = stalled;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            stalled.countDown();
+            try {
+                unstall.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch delivered;
+
+        private RecordingEmitter(CountDownLatch delivered) {
+            this.delivered = delivered;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            delivered.countDown();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.dto.DashboardResponse;
+import com.taskflowapi.dto.ProjectStatsResponse;
+import com.taskflowapi.dto.TaskResponse;
+import com.taskflowapi.repository.ProjectRepository;
+import com.taskflowapi.repository.TaskRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardService Unit Tests")
+class DashboardServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private DashboardService dashboardService;
+
+    @Test
+    @DisplayName("getDashboard() - Success: Should aggregate per-project counters into totals")
+    void getDashboard_WithProjects_ShouldAggregateTotals() {
+        // Arrange
+        ProjectStatsResponse first = new ProjectStatsResponse(1L, "First", null, 1L,
+                LocalDateTime.now(), LocalDateTime.now(), 4L, 3L, 1L);
+        ProjectStatsResponse second = new ProjectStatsResponse(2L, "Second", null, 1L,
+                LocalDateTime.now(), LocalDateTime.now(), 0L, null, null);
+        when(projectRepository.findStatsByUserId(eq(1L), any(LocalDate.class)))
+                .thenReturn(Arrays.asList(first, second));
+
+        // Act
+        DashboardResponse response = dashboardService.getDashboard(1L, 0);
+
+        // Assert
+        assertThat(response.getTotalProjects()).isEqualTo(2);
+        assertThat(response.getTotalTasks()).isEqualTo(4);
+        assertThat(response.getCompletedTasks()).isEqualTo(3);
+        assertThat(response.getOverdueTasks()).isEqualTo(1);
+        assertThat(response.getProgressPercentage()).isEqualTo(75.0);
+        assertThat(response.getProjects().get(0).getProgressPercentage()).isEqualTo(75.0);
+        assertThat(response.getProjects().get(1).getCompletedTasks()).isZero();
+        assertThat(response.getUpcomingTasks()).isEmpty();
+
+        verify(taskRepository, never()).findUpcomingByUserId(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("getDashboard() - Edge Case: Should cap the number of upcoming tasks")
+    void getDashboard_WithLargeUpcomingLimit_ShouldCapPageSize() {
+        // Arrange
+        TaskResponse task = new TaskResponse(1L, "Task", null, LocalDate.now(), false, 1L,
+                LocalDateTime.now(), LocalDateTime.now());
+        when(projectRepository.findStatsByUserId(eq(1L), any(LocalDate.class))).thenReturn(List.of());
+        when(taskRepository.findUpcomingByUserId(eq(1L), any(LocalDate.class), any(Pageable.class)))
+                .thenReturn(List.of(task));
+
+        // Act
+        DashboardResponse response = dashboardService.getDashboard(1L, 10_000);
+
+        // Assert
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(taskRepository).findUpcomingByUserId(eq(1L), any(LocalDate.class), pageable.capture());
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(DashboardService.MAX_UPCOMING_TASKS);
+        assertThat(response.getUpcomingTasks()).containsExactly(task);
+        assertThat(response.getProgressPercentage()).isEqualTo(0.0);
+    }
+}
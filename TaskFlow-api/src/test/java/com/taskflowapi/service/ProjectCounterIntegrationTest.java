@@ -0,0 +1,192 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.dto.ProjectProgressResponse;
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.dto.ProjectStatsResponse;
+import com.taskflowapi.dto.TaskRequest;
+import com.taskflowapi.dto.TaskResponse;
+import com.taskflowapi.repository.ProjectRepository;
+import com.taskflowapi.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Project task counter integration tests")
+class ProjectCounterIntegrationTest {
+
+    private static final int THREADS = 8;
+    private static final int TOGGLES_PER_THREAD = 25;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectCounterRepairService repairService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.findByEmail("john@example.com").orElseThrow().getId();
+        projectId = projectService.createProject(new ProjectRequest("Counters", "Counter test project"), userId).getId();
+    }
+
+    @Test
+    @DisplayName("toggleTaskCompletion() - Concurrency: Counters should stay exact under concurrent toggles")
+    void toggleTaskCompletion_Concurrently_ShouldKeepCountersExact() throws Exception {
+        // Arrange
+        List<Long> taskIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            taskIds.add(taskService.createTask(projectId, new TaskRequest("Task " + i, null, LocalDate.now()), userId).getId());
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < TOGGLES_PER_THREAD; i++) {
+                        taskService.toggleTaskCompletion(taskIds.get((offset + i) % taskIds.size()), userId);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        long actuallyCompleted = taskService.getProjectTasks(projectId, userId).stream()
+                .filter(TaskResponse::getIsCompleted)
+                .count();
+        ProjectProgressResponse progress = projectService.getProjectProgress(projectId, userId);
+        assertThat(progress.getTotalTasks()).isEqualTo(3L);
+        assertThat(progress.getCompletedTasks()).isEqualTo(actuallyCompleted);
+        assertThat(repairService.repairCounters()).doesNotContain(projectId);
+    }
+
+    @Test
+    @DisplayName("createTask()/deleteTask() - Success: Should maintain total and completed counters")
+    void createAndDeleteTask_ShouldMaintainCounters() {
+        // Arrange
+        Long first = taskService.createTask(projectId, new TaskRequest("First", null, null), userId).getId();
+        taskService.createTask(projectId, new TaskRequest("Second", null, null), userId);
+        taskService.toggleTaskCompletion(first, userId);
+
+        // Act
+        taskService.deleteTask(first, userId);
+
+        // Assert
+        ProjectProgressResponse progress = projectService.getProjectProgress(projectId, userId);
+        assertThat(progress.getTotalTasks()).isEqualTo(1L);
+        assertThat(progress.getCompletedTasks()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("repairCounters() - Success: Should recompute counters that drifted")
+    void repairCounters_WithDrift_ShouldRecomputeAndReportProject() {
+        // Arrange
+        taskService.createTask(projectId, new TaskRequest("Task", null, null), userId);
+        transactionTemplate.executeWithoutResult(status -> projectRepository.adjustTaskCounters(projectId, 5, 2));
+
+        // Act
+        List<Long> repaired = repairService.repairCounters();
+
+        // Assert
+        assertThat(repaired).contains(projectId);
+        ProjectProgressResponse progress = projectService.getProjectProgress(projectId, userId);
+        assertThat(progress.getTotalTasks()).isEqualTo(1L);
+        assertThat(progress.getCompletedTasks()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("afterSingletonsInstantiated() - Success: Should backfill counters of existing projects only once")
+    void afterSingletonsInstantiated_WithLegacyCounters_ShouldBackfillOnce() {
+        // Arrange: a project from before the counter columns, which were added with 0
+        Long done = taskService.createTask(projectId, new TaskRequest("Done", null, null), userId).getId();
+        taskService.createTask(projectId, new TaskRequest("Open", null, null), userId);
+        taskService.toggleTaskCompletion(done, userId);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + ProjectCounterRepairService.BACKFILL_TABLE +
+                " WHERE name = ?", Integer.class, ProjectCounterRepairService.COUNTERS_BACKFILL)).isEqualTo(1);
+        jdbcTemplate.update("DELETE FROM " + ProjectCounterRepairService.BACKFILL_TABLE);
+        transactionTemplate.executeWithoutResult(status -> projectRepository.adjustTaskCounters(projectId, -2, -1));
+
+        // Act
+        repairService.afterSingletonsInstantiated();
+
+        // Assert
+        ProjectProgressResponse progress = projectService.getProjectProgress(projectId, userId);
+        assertThat(progress.getTotalTasks()).isEqualTo(2L);
+        assertThat(progress.getCompletedTasks()).isEqualTo(1L);
+
+        // Already recorded as done, so a later start leaves counters to the cron repair
+        transactionTemplate.executeWithoutResult(status -> projectRepository.adjustTaskCounters(projectId, 1, 0));
+        repairService.afterSingletonsInstantiated();
+        assertThat(projectService.getProjectProgress(projectId, userId).getTotalTasks()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("findStatsByUserId() - Success: Should count tasks per project, including projects without tasks")
+    void findStatsByUserId_ShouldAggregatePerProject() {
+        // Arrange
+        Long done = taskService.createTask(projectId, new TaskRequest("Done", null, LocalDate.now().minusDays(3)), userId).getId();
+        taskService.createTask(projectId, new TaskRequest("Overdue", null, LocalDate.now().minusDays(1)), userId);
+        taskService.createTask(projectId, new TaskRequest("Later", null, LocalDate.now().plusDays(1)), userId);
+        taskService.toggleTaskCompletion(done, userId);
+        Long emptyProjectId = projectService.createProject(new ProjectRequest("Empty", "No tasks"), userId).getId();
+
+        // Act
+        List<ProjectStatsResponse> stats = projectRepository.findStatsByUserId(userId, LocalDate.now());
+
+        // Assert
+        ProjectStatsResponse withTasks = stats.stream().filter(p -> p.getId().equals(projectId)).findFirst().orElseThrow();
+        assertThat(withTasks.getDescription()).isEqualTo("Counter test project");
+        assertThat(withTasks.getTotalTasks()).isEqualTo(3L);
+        assertThat(withTasks.getCompletedTasks()).isEqualTo(1L);
+        assertThat(withTasks.getOverdueTasks()).isEqualTo(1L);
+        ProjectStatsResponse empty = stats.stream().filter(p -> p.getId().equals(emptyProjectId)).findFirst().orElseThrow();
+        assertThat(empty.getTotalTasks()).isZero();
+        assertThat(empty.getProgressPercentage()).isZero();
+    }
+}
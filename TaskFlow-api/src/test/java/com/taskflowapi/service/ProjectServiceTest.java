@@ -1,8 +1,10 @@
 package com.taskflowapi.service;
 
+import com.taskflowapi.dto.ChangeEvent;
 import com.taskflowapi.dto.ProjectProgressResponse;
 import com.taskflowapi.dto.ProjectRequest;
 import com.taskflowapi.dto.ProjectResponse;
+import com.taskflowapi.dto.ResourceVersion;
 import com.taskflowapi.entity.Project;
 import com.taskflowapi.entity.User;
 import com.taskflowapi.exception.ResourceNotFoundException;
@@ -17,6 +19,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -40,6 +45,9 @@ class ProjectServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -150,8 +158,8 @@ class ProjectServiceTest {
         project2.setCreatedAt(LocalDateTime.now());
         project2.setUpdatedAt(LocalDateTime.now());
 
-        List<Project> projects = Arrays.asList(testProject, project2);
-        when(projectRepository.findByUserId(testUser.getId())).thenReturn(projects);
+        List<ProjectResponse> projects = Arrays.asList(response(testProject), response(project2));
+        when(projectRepository.findResponsesByUserId(testUser.getId())).thenReturn(projects);
 
         // Act
         List<ProjectResponse> responses = projectService.getUserProjects(testUser.getId());
@@ -162,14 +170,14 @@ class ProjectServiceTest {
         assertThat(responses.get(0).getTitle()).isEqualTo(testProject.getTitle());
         assertThat(responses.get(1).getTitle()).isEqualTo(project2.getTitle());
 
-        verify(projectRepository, times(1)).findByUserId(testUser.getId());
+        verify(projectRepository, times(1)).findResponsesByUserId(testUser.getId());
     }
 
     @Test
     @DisplayName("getUserProjects() - Edge Case: Should return empty list when no projects exist")
     void getUserProjects_WithNoProjects_ShouldReturnEmptyList() {
         // Arrange
-        when(projectRepository.findByUserId(testUser.getId())).thenReturn(Arrays.asList());
+        when(projectRepository.findResponsesByUserId(testUser.getId())).thenReturn(Arrays.asList());
 
         // Act
         List<ProjectResponse> responses = projectService.getUserProjects(testUser.getId());
@@ -178,14 +186,14 @@ class ProjectServiceTest {
         assertThat(responses).isNotNull();
         assertThat(responses).isEmpty();
 
-        verify(projectRepository, times(1)).findByUserId(testUser.getId());
+        verify(projectRepository, times(1)).findResponsesByUserId(testUser.getId());
     }
 
     @Test
     @DisplayName("getUserProjects() - Edge Case: Should handle user with single project")
     void getUserProjects_WithSingleProject_ShouldReturnSingleProjectList() {
         // Arrange
-        when(projectRepository.findByUserId(testUser.getId())).thenReturn(Arrays.asList(testProject));
+        when(projectRepository.findResponsesByUserId(testUser.getId())).thenReturn(Arrays.asList(response(testProject)));
 
         // Act
         List<ProjectResponse> responses = projectService.getUserProjects(testUser.getId());
@@ -195,7 +203,7 @@ class ProjectServiceTest {
         assertThat(responses).hasSize(1);
         assertThat(responses.get(0).getTitle()).isEqualTo(testProject.getTitle());
 
-        verify(projectRepository, times(1)).findByUserId(testUser.getId());
+        verify(projectRepository, times(1)).findResponsesByUserId(testUser.getId());
     }
 
     // ========== getProjectById Tests ==========
@@ -218,6 +226,35 @@ class ProjectServiceTest {
         verify(projectRepository, times(1)).findByIdAndUserId(testProject.getId(), testUser.getId());
     }
 
+    // ========== getProjectVersion Tests ==========
+
+    @Test
+    @DisplayName("getProjectVersion() - Success: Should return the version of an owned project")
+    void getProjectVersion_WithOwnedProject_ShouldReturnVersion() {
+        // Arrange
+        ResourceVersion version = new ResourceVersion(1, LocalDateTime.of(2026, 1, 1, 12, 0));
+        when(projectRepository.findVersionByIdAndUserId(testProject.getId(), testUser.getId())).thenReturn(version);
+
+        // Act
+        ResourceVersion result = projectService.getProjectVersion(testProject.getId(), testUser.getId());
+
+        // Assert
+        assertThat(result).isEqualTo(version);
+        verify(projectRepository, never()).findByIdAndUserId(any(), any());
+    }
+
+    @Test
+    @DisplayName("getProjectVersion() - Failure: Should throw ResourceNotFoundException when project is not owned")
+    void getProjectVersion_WithWrongUser_ShouldThrowResourceNotFoundException() {
+        // Arrange
+        when(projectRepository.findVersionByIdAndUserId(testProject.getId(), 999L)).thenReturn(new ResourceVersion(0, null));
+
+        // Act & Assert
+        assertThatThrownBy(() -> projectService.getProjectVersion(testProject.getId(), 999L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Project not found");
+    }
+
     // ========== updateProject Tests ===========
 
     @Test
@@ -280,11 +317,37 @@ class ProjectServiceTest {
                 .thenReturn(Optional.of(testProject));
 
         // Act
-        projectService.deleteProject(testProject.getId(), testUser.getId());
+        boolean deferred = projectService.deleteProject(testProject.getId(), testUser.getId());
 
         // Assert
+        assertThat(deferred).isFalse();
         verify(projectRepository, times(1)).findByIdAndUserId(testProject.getId(), testUser.getId());
+        verify(taskRepository, times(1)).deleteAllByProjectId(testProject.getId());
         verify(projectRepository, times(1)).delete(testProject);
+        verify(eventPublisher, times(1)).publishEvent(new ChangeEvent(
+                ChangeEvent.Type.PROJECT_DELETED, testUser.getId(), testProject.getId(), null, null, null));
+    }
+
+    @Test
+    @DisplayName("deleteProject() - Success: Should hide a project larger than one purge chunk instead of deleting it inline")
+    void deleteProject_WithLargeProject_ShouldDeferDeletion() {
+        // Arrange
+        ReflectionTestUtils.setField(projectService, "deletionChunkSize", 2);
+        when(projectRepository.findByIdAndUserId(testProject.getId(), testUser.getId()))
+                .thenReturn(Optional.of(testProject));
+        when(taskRepository.findIdsByProjectId(testProject.getId(), PageRequest.ofSize(3)))
+                .thenReturn(List.of(1L, 2L, 3L));
+
+        // Act
+        boolean deferred = projectService.deleteProject(testProject.getId(), testUser.getId());
+
+        // Assert
+        assertThat(deferred).isTrue();
+        verify(projectRepository, times(1)).markDeleted(eq(testProject.getId()), any(LocalDateTime.class));
+        verify(projectRepository, never()).delete(any(Project.class));
+        verify(taskRepository, never()).deleteAllByProjectId(anyLong());
+        verify(eventPublisher, times(1)).publishEvent(new ChangeEvent(
+                ChangeEvent.Type.PROJECT_DELETED, testUser.getId(), testProject.getId(), null, null, null));
     }
 
     @Test
@@ -299,7 +362,10 @@ class ProjectServiceTest {
 
         verify(projectRepository, times(1)).findByIdAndUserId(999L, testUser.getId());
         verify(projectRepository, never()).delete(any(Project.class));
+        verifyNoInteractions(taskRepository);
+        verifyNoInteractions(eventPublisher);
     }
+
     @Test
     @DisplayName("getProjectById() - Failure: Should throw ResourceNotFoundException when project not found")
     void getProjectById_WithNonExistentProject_ShouldThrowResourceNotFoundException() {
@@ -338,8 +404,8 @@ class ProjectServiceTest {
         // Arrange
         when(projectRepository.findByIdAndUserId(testProject.getId(), testUser.getId()))
                 .thenReturn(Optional.of(testProject));
-        when(taskRepository.countByProjectId(testProject.getId())).thenReturn(10L);
-        when(taskRepository.countCompletedByProjectId(testProject.getId())).thenReturn(7L);
+        testProject.setTotalTasks(10L);
+        testProject.setCompletedTasks(7L);
 
         // Act
         ProjectProgressResponse response = projectService.getProjectProgress(testProject.getId(), testUser.getId());
@@ -353,8 +419,6 @@ class ProjectServiceTest {
         assertThat(response.getProgressPercentage()).isEqualTo(70.0);
 
         verify(projectRepository, times(1)).findByIdAndUserId(testProject.getId(), testUser.getId());
-        verify(taskRepository, times(1)).countByProjectId(testProject.getId());
-        verify(taskRepository, times(1)).countCompletedByProjectId(testProject.getId());
     }
 
     @Test
@@ -363,8 +427,8 @@ class ProjectServiceTest {
         // Arrange
         when(projectRepository.findByIdAndUserId(testProject.getId(), testUser.getId()))
                 .thenReturn(Optional.of(testProject));
-        when(taskRepository.countByProjectId(testProject.getId())).thenReturn(0L);
-        when(taskRepository.countCompletedByProjectId(testProject.getId())).thenReturn(0L);
+        testProject.setTotalTasks(0L);
+        testProject.setCompletedTasks(0L);
 
         // Act
         ProjectProgressResponse response = projectService.getProjectProgress(testProject.getId(), testUser.getId());
@@ -384,8 +448,8 @@ class ProjectServiceTest {
         // Arrange
         when(projectRepository.findByIdAndUserId(testProject.getId(), testUser.getId()))
                 .thenReturn(Optional.of(testProject));
-        when(taskRepository.countByProjectId(testProject.getId())).thenReturn(5L);
-        when(taskRepository.countCompletedByProjectId(testProject.getId())).thenReturn(5L);
+        testProject.setTotalTasks(5L);
+        testProject.setCompletedTasks(5L);
 
         // Act
         ProjectProgressResponse response = projectService.getProjectProgress(testProject.getId(), testUser.getId());
@@ -403,8 +467,8 @@ class ProjectServiceTest {
         // Arrange
         when(projectRepository.findByIdAndUserId(testProject.getId(), testUser.getId()))
                 .thenReturn(Optional.of(testProject));
-        when(taskRepository.countByProjectId(testProject.getId())).thenReturn(3L);
-        when(taskRepository.countCompletedByProjectId(testProject.getId())).thenReturn(1L);
+        testProject.setTotalTasks(3L);
+        testProject.setCompletedTasks(1L);
 
         // Act
         ProjectProgressResponse response = projectService.getProjectProgress(testProject.getId(), testUser.getId());
@@ -426,7 +490,6 @@ class ProjectServiceTest {
                 .hasMessage("Project not found");
 
         verify(projectRepository, times(1)).findByIdAndUserId(999L, testUser.getId());
-        verify(taskRepository, never()).countByProjectId(anyLong());
     }
 
     // ========== validateUserOwnsProject Tests ==========
@@ -475,4 +538,10 @@ class ProjectServiceTest {
 
         verify(projectRepository, times(1)).findByIdAndUserId(999L, testUser.getId());
     }
+
+    // What the findResponsesByUserId projection selects for a project row
+    private ProjectResponse response(Project project) {
+        return new ProjectResponse(project.getId(), project.getTitle(), project.getDescription(),
+                project.getUser().getId(), project.getCreatedAt(), project.getUpdatedAt());
+    }
 }
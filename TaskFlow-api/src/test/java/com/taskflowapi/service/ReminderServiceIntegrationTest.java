@@ -0,0 +1,175 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.dto.ReminderDigest;
+import com.taskflowapi.dto.TaskReminder;
+import com.taskflowapi.dto.TaskRequest;
+import com.taskflowapi.entity.User;
+import com.taskflowapi.repository.TaskRepository;
+import com.taskflowapi.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Reminder scheduler integration tests")
+class ReminderServiceIntegrationTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<ReminderDigest> digests = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        digests.clear();
+    }
+
+    // A separate instance per "node", sharing the database; small chunks so a run takes several claims
+    private ReminderService node() {
+        return new ReminderService(taskRepository, digests::add, transactionTemplate, meterRegistry, true, 1, 7, 3);
+    }
+
+    private Long newUser() {
+        User user = new User();
+        user.setEmail("reminders-" + UUID.randomUUID() + "@example.com");
+        user.setName("Reminded");
+        user.setPasswordHash("not-used");
+        return userRepository.save(user).getId();
+    }
+
+    private Long task(Long projectId, Long userId, String title, LocalDate dueDate) {
+        return taskService.createTask(projectId, new TaskRequest(title, null, dueDate), userId).getId();
+    }
+
+    private List<Long> remindedTaskIds() {
+        return digests.stream().flatMap(d -> d.getReminders().stream()).map(TaskReminder::getTaskId).toList();
+    }
+
+    @Test
+    @DisplayName("sendReminders() - Success: Should send one digest per user for the open tasks in the window, once")
+    void sendReminders_ShouldDigestPerUserOnce() {
+        // Arrange: dates far from any other test's tasks
+        LocalDate today = LocalDate.of(2099, 3, 10);
+        Long alice = newUser();
+        Long bob = newUser();
+        Long aliceProject = projectService.createProject(new ProjectRequest("Alice", null), alice).getId();
+        Long bobProject = projectService.createProject(new ProjectRequest("Bob", null), bob).getId();
+        Long dueToday = task(aliceProject, alice, "Due today", today);
+        Long dueTomorrow = task(aliceProject, alice, "Due tomorrow", today.plusDays(1));
+        Long late = task(aliceProject, alice, "Late", today.minusDays(2));
+        Long bobs = task(bobProject, bob, "Bob's", today.plusDays(1));
+        task(aliceProject, alice, "Later", today.plusDays(2));
+        task(aliceProject, alice, "Long overdue", today.minusDays(30));
+        Long done = task(aliceProject, alice, "Done", today);
+        taskService.toggleTaskCompletion(done, alice);
+
+        // Act
+        long sent = node().sendReminders(today);
+        long again = node().sendReminders(today);
+
+        // Assert
+        assertThat(sent).isEqualTo(4);
+        assertThat(again).isZero();
+        assertThat(remindedTaskIds()).containsExactlyInAnyOrder(dueToday, dueTomorrow, late, bobs);
+        ReminderDigest aliceDigest = digests.stream().filter(d -> d.getUserId().equals(alice)).findFirst().orElseThrow();
+        assertThat(aliceDigest.getEmail()).startsWith("reminders-");
+        assertThat(aliceDigest.getReminders())
+                .filteredOn(r -> r.getType() == TaskReminder.Type.OVERDUE)
+                .extracting(TaskReminder::getTaskId)
+                .containsExactly(late);
+    }
+
+    @Test
+    @DisplayName("sendReminders() - Success: Should follow a due-soon reminder with an overdue one once the date passes")
+    void sendReminders_ShouldEscalateToOverdue() {
+        // Arrange
+        LocalDate today = LocalDate.of(2099, 6, 10);
+        Long userId = newUser();
+        Long projectId = projectService.createProject(new ProjectRequest("Escalation", null), userId).getId();
+        Long taskId = task(projectId, userId, "Report", today.plusDays(1));
+
+        // Act
+        node().sendReminders(today);
+        node().sendReminders(today.plusDays(1));
+        node().sendReminders(today.plusDays(2));
+        node().sendReminders(today.plusDays(3));
+
+        // Assert
+        assertThat(digests).extracting(d -> d.getReminders().get(0).getType())
+                .containsExactly(TaskReminder.Type.DUE_SOON, TaskReminder.Type.OVERDUE);
+        assertThat(remindedTaskIds()).containsOnly(taskId);
+    }
+
+    @Test
+    @DisplayName("sendReminders() - Concurrency: Should send each reminder once when several nodes run at the same time")
+    void sendReminders_ConcurrentNodes_ShouldNotDuplicate() throws Exception {
+        // Arrange
+        LocalDate today = LocalDate.of(2099, 9, 10);
+        Long userId = newUser();
+        Long projectId = projectService.createProject(new ProjectRequest("Concurrent", null), userId).getId();
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            expected.add(task(projectId, userId, "Task " + i, today.plusDays(i % 2)));
+        }
+
+        // Act
+        int nodes = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(nodes);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> runs = new ArrayList<>();
+        try {
+            for (int i = 0; i < nodes; i++) {
+                ReminderService node = node();
+                runs.add(executor.submit(() -> {
+                    start.await();
+                    return node.sendReminders(today);
+                }));
+            }
+            start.countDown();
+            long sent = 0;
+            for (Future<Long> run : runs) {
+                sent += run.get();
+            }
+
+            // Assert
+            assertThat(sent).isEqualTo(expected.size());
+            assertThat(remindedTaskIds()).containsExactlyInAnyOrderElementsOf(expected);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.taskflowapi.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SearchHighlighter Unit Tests")
+class SearchHighlighterTest {
+
+    @Test
+    @DisplayName("highlight() - Success: Should mark every term case-insensitively and escape the rest")
+    void highlight_ShouldMarkTermsAndEscapeHtml() {
+        // Act
+        String result = SearchHighlighter.highlight("Plan <b>release</b> & Release notes", List.of("release", "plan"));
+
+        // Assert
+        assertThat(result).isEqualTo(
+                "<mark>Plan</mark> &lt;b&gt;<mark>release</mark>&lt;/b&gt; &amp; <mark>Release</mark> notes");
+    }
+
+    @Test
+    @DisplayName("highlight() - Edge Case: Should prefer the longest term at a position")
+    void highlight_WithOverlappingTerms_ShouldMarkLongest() {
+        // Act
+        String result = SearchHighlighter.highlight("planning", List.of("plan", "planning"));
+
+        // Assert
+        assertThat(result).isEqualTo("<mark>planning</mark>");
+    }
+
+    @Test
+    @DisplayName("snippet() - Success: Should cut long text around the first match")
+    void snippet_WithLongText_ShouldWindowFirstMatch() {
+        // Arrange
+        String text = "x".repeat(500) + " deadline " + "y".repeat(500);
+
+        // Act
+        String result = SearchHighlighter.snippet(text, List.of("deadline"), 100);
+
+        // Assert
+        assertThat(result).startsWith("…").endsWith("…").contains("<mark>deadline</mark>");
+        assertThat(result.replace("<mark>", "").replace("</mark>", "")).hasSize(102);
+    }
+
+    @Test
+    @DisplayName("snippet() - Edge Case: Should keep null and short text whole")
+    void snippet_WithShortText_ShouldHighlightWhole() {
+        // Act & Assert
+        assertThat(SearchHighlighter.snippet(null, List.of("abc"), 100)).isNull();
+        assertThat(SearchHighlighter.snippet("abc def", List.of("def"), 100)).isEqualTo("abc <mark>def</mark>");
+    }
+
+    @Test
+    @DisplayName("terms() - Success: Should drop operators, short words and duplicates")
+    void terms_ShouldNormalizeQuery() {
+        // Act & Assert
+        assertThat(TaskSearchService.terms("+Release* -notes \"release\" of Q3 plan")).containsExactly("release", "notes", "plan");
+        assertThat(TaskSearchService.terms("a b")).isEmpty();
+    }
+}
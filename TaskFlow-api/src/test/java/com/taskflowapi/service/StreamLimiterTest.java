@@ -0,0 +1,94 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StreamLimiter Unit Tests")
+class StreamLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StreamLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new StreamLimiter(meterRegistry, 1, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("limit() - Success: Should set the async timeout and write the body")
+    void limit_ShouldSetTimeoutAndWriteBody() throws IOException {
+        // Arrange
+        AsyncWebRequest asyncWebRequest = mock(AsyncWebRequest.class);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        StreamingResponseBody body = limiter.limit(out -> out.write('x'), webRequest(asyncWebRequest));
+        body.writeTo(output);
+
+        // Assert
+        verify(asyncWebRequest).setTimeout(Duration.ofMinutes(10).toMillis());
+        assertThat(output.toByteArray()).containsExactly('x');
+        assertThat(meterRegistry.get(StreamLimiter.METRIC + ".active").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("limit() - Failure: Should reject with 429 while max-concurrent streams are running")
+    void limit_WhenSaturated_ShouldRejectUntilReleased() throws IOException {
+        // Arrange
+        StreamingResponseBody running = limiter.limit(out -> { }, webRequest(mock(AsyncWebRequest.class)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> limiter.limit(out -> { }, webRequest(mock(AsyncWebRequest.class))))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.get(StreamLimiter.METRIC + ".rejected").counter().count()).isEqualTo(1);
+
+        running.writeTo(new ByteArrayOutputStream());
+        assertThatCode(() -> limiter.limit(out -> { }, webRequest(mock(AsyncWebRequest.class))))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("limit() - Success: Should release the permit when the request completes without writing the body")
+    void limit_WhenCompletedWithoutWriting_ShouldReleaseOnce() throws IOException {
+        // Arrange
+        AsyncWebRequest asyncWebRequest = mock(AsyncWebRequest.class);
+        StreamingResponseBody body = limiter.limit(out -> { }, Duration.ZERO, webRequest(asyncWebRequest));
+        ArgumentCaptor<Runnable> completion = ArgumentCaptor.forClass(Runnable.class);
+        verify(asyncWebRequest).setTimeout(0L);
+        // The async manager registers its own handler as well
+        verify(asyncWebRequest, atLeastOnce()).addCompletionHandler(completion.capture());
+
+        // Act
+        completion.getAllValues().forEach(Runnable::run);
+        body.writeTo(new ByteArrayOutputStream());
+
+        // Assert
+        assertThat(meterRegistry.get(StreamLimiter.METRIC + ".active").gauge().value()).isZero();
+        limiter.limit(out -> { }, webRequest(mock(AsyncWebRequest.class)));
+        assertThatThrownBy(() -> limiter.limit(out -> { }, webRequest(mock(AsyncWebRequest.class))))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    private ServletWebRequest webRequest(AsyncWebRequest asyncWebRequest) {
+        ServletWebRequest webRequest = new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+        WebAsyncUtils.getAsyncManager(webRequest).setAsyncWebRequest(asyncWebRequest);
+        return webRequest;
+    }
+}
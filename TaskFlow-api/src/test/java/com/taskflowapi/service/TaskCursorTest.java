@@ -0,0 +1,83 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.dto.TaskResponse;
+import com.taskflowapi.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TaskCursor Unit Tests")
+class TaskCursorTest {
+
+    @Test
+    @DisplayName("encode()/decode() - Success: Should round-trip a due date cursor")
+    void encodeDecode_WithDueDate_ShouldRoundTrip() {
+        // Arrange
+        TaskResponse task = new TaskResponse();
+        task.setId(42L);
+        task.setDueDate(LocalDate.of(2025, 12, 31));
+
+        // Act
+        TaskCursor decoded = TaskCursor.decode(TaskCursor.after("dueDate", task).encode(), "dueDate");
+
+        // Assert
+        assertThat(decoded.dueDate()).isEqualTo(LocalDate.of(2025, 12, 31));
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("encode()/decode() - Edge Case: Should keep a null due date as the undated segment")
+    void encodeDecode_WithoutDueDate_ShouldDecodeNullDueDate() {
+        // Arrange
+        TaskResponse task = new TaskResponse();
+        task.setId(7L);
+
+        // Act
+        TaskCursor decoded = TaskCursor.decode(TaskCursor.after("dueDate", task).encode(), "dueDate");
+
+        // Assert
+        assertThat(decoded.dueDate()).isNull();
+        assertThat(decoded.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("encode()/decode() - Success: Should round-trip a createdAt cursor with sub-second precision")
+    void encodeDecode_WithCreatedAt_ShouldRoundTrip() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5, 123456000);
+        TaskResponse task = new TaskResponse();
+        task.setId(3L);
+        task.setCreatedAt(createdAt);
+
+        // Act
+        TaskCursor decoded = TaskCursor.decode(TaskCursor.after("createdAt", task).encode(), "createdAt");
+
+        // Assert
+        assertThat(decoded.createdAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    @DisplayName("decode() - Failure: Should reject a cursor issued for another sort order")
+    void decode_WithMismatchedSort_ShouldThrowBadRequestException() {
+        // Arrange
+        TaskResponse task = new TaskResponse();
+        task.setId(1L);
+        String cursor = TaskCursor.after("dueDate", task).encode();
+
+        // Act & Assert
+        assertThatThrownBy(() -> TaskCursor.decode(cursor, "createdAt"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    @DisplayName("decode() - Failure: Should reject garbage input")
+    void decode_WithGarbage_ShouldThrowBadRequestException() {
+        assertThatThrownBy(() -> TaskCursor.decode("not-a-cursor!", "dueDate"))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.taskflowapi.service;
+
+import com.taskflowapi.config.SqlStatementCounter;
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.dto.TaskRequest;
+import com.taskflowapi.dto.TaskResponse;
+import com.taskflowapi.dto.TaskUpdateRequest;
+import com.taskflowapi.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Partial task update integration tests")
+class TaskPartialUpdateIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // Sees every statement Hibernate prepares
+    @MockitoSpyBean
+    private SqlStatementCounter statementInspector;
+
+    private Long userId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.findByEmail("john@example.com").orElseThrow().getId();
+        Long projectId = projectService.createProject(new ProjectRequest("Partial updates", null), userId).getId();
+        taskId = taskService.createTask(projectId, new TaskRequest("Title", "Description", null), userId).getId();
+    }
+
+    @Test
+    @DisplayName("updateTask() - Success: Should write only the description when only the description is given")
+    void updateTask_DescriptionOnly_ShouldNotWriteTitle() {
+        // Act
+        clearInvocations(statementInspector);
+        TaskResponse response = taskService.updateTask(taskId, new TaskUpdateRequest(null, "Changed"), userId);
+
+        // Assert
+        assertThat(response.getTitle()).isEqualTo("Title");
+        assertThat(response.getDescription()).isEqualTo("Changed");
+        assertThat(taskUpdate()).contains("description=").doesNotContain("title=");
+    }
+
+    @Test
+    @DisplayName("updateTask() - Success: Should write only the title when only the title is given")
+    void updateTask_TitleOnly_ShouldNotWriteDescription() {
+        // Act
+        clearInvocations(statementInspector);
+        TaskResponse response = taskService.updateTask(taskId, new TaskUpdateRequest("Renamed", null), userId);
+
+        // Assert
+        assertThat(response.getTitle()).isEqualTo("Renamed");
+        assertThat(response.getDescription()).isEqualTo("Description");
+        assertThat(taskUpdate()).contains("title=").doesNotContain("description=");
+    }
+
+    private String taskUpdate() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(statementInspector, atLeastOnce()).inspect(sql.capture());
+        List<String> updates = sql.getAllValues().stream()
+                .map(statement -> statement.toLowerCase(Locale.ROOT).replace(" ", ""))
+                .filter(statement -> statement.startsWith("updatetasks"))
+                .toList();
+        assertThat(updates).hasSize(1);
+        return updates.get(0);
+    }
+}
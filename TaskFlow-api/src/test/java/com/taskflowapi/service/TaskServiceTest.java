@@ -1,5 +1,10 @@
 package com.taskflowapi.service;
 
+import com.taskflowapi.dto.ChangeEvent;
+import com.taskflowapi.dto.ResourceVersion;
+import com.taskflowapi.dto.TaskBatchOperation;
+import com.taskflowapi.dto.TaskBatchRequest;
+import com.taskflowapi.dto.TaskBatchResponse;
 import com.taskflowapi.dto.TaskRequest;
 import com.taskflowapi.dto.TaskUpdateRequest;
 import com.taskflowapi.dto.TaskResponse;
@@ -17,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -41,6 +47,9 @@ class TaskServiceTest {
     @Mock
     private ProjectService projectService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -87,7 +96,7 @@ class TaskServiceTest {
     void createTask_WithValidData_ShouldReturnTaskResponse() {
         // Arrange
         doNothing().when(projectService).validateUserOwnsProject(testProject.getId(), testUser.getId());
-        when(projectRepository.findById(testProject.getId())).thenReturn(Optional.of(testProject));
+        when(projectRepository.getReferenceById(testProject.getId())).thenReturn(testProject);
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // Act
@@ -101,8 +110,12 @@ class TaskServiceTest {
         assertThat(response.getIsCompleted()).isFalse();
 
         verify(projectService, times(1)).validateUserOwnsProject(testProject.getId(), testUser.getId());
-        verify(projectRepository, times(1)).findById(testProject.getId());
+        verify(projectRepository, times(1)).getReferenceById(testProject.getId());
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) -> event instanceof ChangeEvent change
+                && change.getType() == ChangeEvent.Type.TASK_CREATED
+                && change.getUserId().equals(testUser.getId())
+                && change.getTask() == response));
     }
 
     @Test
@@ -118,24 +131,7 @@ class TaskServiceTest {
                 .hasMessage("You don't have access to this project");
 
         verify(projectService, times(1)).validateUserOwnsProject(testProject.getId(), 999L);
-        verify(projectRepository, never()).findById(anyLong());
-        verify(taskRepository, never()).save(any(Task.class));
-    }
-
-    @Test
-    @DisplayName("createTask() - Failure: Should throw ResourceNotFoundException when project not found")
-    void createTask_WithNonExistentProject_ShouldThrowResourceNotFoundException() {
-        // Arrange
-        doNothing().when(projectService).validateUserOwnsProject(testProject.getId(), testUser.getId());
-        when(projectRepository.findById(testProject.getId())).thenReturn(Optional.empty());
-
-        // Act & Assert
-        assertThatThrownBy(() -> taskService.createTask(testProject.getId(), taskRequest, testUser.getId()))
-                .isInstanceOf(ResourceNotFoundException.class)
-                .hasMessage("Project not found");
-
-        verify(projectService, times(1)).validateUserOwnsProject(testProject.getId(), testUser.getId());
-        verify(projectRepository, times(1)).findById(testProject.getId());
+        verify(projectRepository, never()).getReferenceById(anyLong());
         verify(taskRepository, never()).save(any(Task.class));
     }
 
@@ -145,7 +141,7 @@ class TaskServiceTest {
         // Arrange
         taskRequest.setDueDate(null);
         doNothing().when(projectService).validateUserOwnsProject(testProject.getId(), testUser.getId());
-        when(projectRepository.findById(testProject.getId())).thenReturn(Optional.of(testProject));
+        when(projectRepository.getReferenceById(testProject.getId())).thenReturn(testProject);
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // Act
@@ -162,7 +158,7 @@ class TaskServiceTest {
         // Arrange
         taskRequest.setDescription(null);
         doNothing().when(projectService).validateUserOwnsProject(testProject.getId(), testUser.getId());
-        when(projectRepository.findById(testProject.getId())).thenReturn(Optional.of(testProject));
+        when(projectRepository.getReferenceById(testProject.getId())).thenReturn(testProject);
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // Act
@@ -179,7 +175,7 @@ class TaskServiceTest {
         // Arrange
         taskRequest.setDueDate(LocalDate.now().minusDays(5));
         doNothing().when(projectService).validateUserOwnsProject(testProject.getId(), testUser.getId());
-        when(projectRepository.findById(testProject.getId())).thenReturn(Optional.of(testProject));
+        when(projectRepository.getReferenceById(testProject.getId())).thenReturn(testProject);
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // Act
@@ -205,9 +201,9 @@ class TaskServiceTest {
         task2.setCreatedAt(LocalDateTime.now());
         task2.setUpdatedAt(LocalDateTime.now());
 
-        List<Task> tasks = Arrays.asList(testTask, task2);
+        List<TaskResponse> tasks = Arrays.asList(responseOf(testTask, false), responseOf(task2, true));
         doNothing().when(projectService).validateUserOwnsProject(testProject.getId(), testUser.getId());
-        when(taskRepository.findByProjectId(testProject.getId())).thenReturn(tasks);
+        when(taskRepository.findResponsesByProjectId(testProject.getId())).thenReturn(tasks);
 
         // Act
         List<TaskResponse> responses = taskService.getProjectTasks(testProject.getId(), testUser.getId());
@@ -219,7 +215,7 @@ class TaskServiceTest {
         assertThat(responses.get(1).getTitle()).isEqualTo(task2.getTitle());
 
         verify(projectService, times(1)).validateUserOwnsProject(testProject.getId(), testUser.getId());
-        verify(taskRepository, times(1)).findByProjectId(testProject.getId());
+        verify(taskRepository, times(1)).findResponsesByProjectId(testProject.getId());
     }
 
     @Test
@@ -227,7 +223,7 @@ class TaskServiceTest {
     void getProjectTasks_WithNoTasks_ShouldReturnEmptyList() {
         // Arrange
         doNothing().when(projectService).validateUserOwnsProject(testProject.getId(), testUser.getId());
-        when(taskRepository.findByProjectId(testProject.getId())).thenReturn(Arrays.asList());
+        when(taskRepository.findResponsesByProjectId(testProject.getId())).thenReturn(Arrays.asList());
 
         // Act
         List<TaskResponse> responses = taskService.getProjectTasks(testProject.getId(), testUser.getId());
@@ -237,7 +233,7 @@ class TaskServiceTest {
         assertThat(responses).isEmpty();
 
         verify(projectService, times(1)).validateUserOwnsProject(testProject.getId(), testUser.getId());
-        verify(taskRepository, times(1)).findByProjectId(testProject.getId());
+        verify(taskRepository, times(1)).findResponsesByProjectId(testProject.getId());
     }
 
     @Test
@@ -253,7 +249,36 @@ class TaskServiceTest {
                 .hasMessage("You don't have access to this project");
 
         verify(projectService, times(1)).validateUserOwnsProject(testProject.getId(), 999L);
-        verify(taskRepository, never()).findByProjectId(anyLong());
+        verify(taskRepository, never()).findResponsesByProjectId(anyLong());
+    }
+
+    // ========== getProjectTasksVersion Tests ==========
+
+    @Test
+    @DisplayName("getProjectTasksVersion() - Success: Should return the task version without a separate ownership check")
+    void getProjectTasksVersion_WithOwnedProject_ShouldReturnVersion() {
+        // Arrange
+        ResourceVersion version = new ResourceVersion(3, LocalDateTime.of(2026, 1, 1, 12, 0));
+        when(taskRepository.findVersionByProjectIdAndUserId(testProject.getId(), testUser.getId()))
+                .thenReturn(Optional.of(version));
+
+        // Act
+        ResourceVersion result = taskService.getProjectTasksVersion(testProject.getId(), testUser.getId());
+
+        // Assert
+        assertThat(result).isEqualTo(version);
+        verify(projectService, never()).validateUserOwnsProject(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("getProjectTasksVersion() - Failure: Should throw UnauthorizedException when project is not owned")
+    void getProjectTasksVersion_WithWrongUser_ShouldThrowUnauthorizedException() {
+        // Arrange
+        when(taskRepository.findVersionByProjectIdAndUserId(testProject.getId(), 999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getProjectTasksVersion(testProject.getId(), 999L))
+                .isInstanceOf(UnauthorizedException.class);
     }
 
     // ========== toggleTaskCompletion Tests ==========
@@ -262,19 +287,11 @@ class TaskServiceTest {
     @DisplayName("toggleTaskCompletion() - Success: Should toggle task from incomplete to complete")
     void toggleTaskCompletion_FromIncompleteToComplete_ShouldToggleStatus() {
         // Arrange
-        testTask.setIsCompleted(false);
-        Task toggledTask = new Task();
-        toggledTask.setId(testTask.getId());
-        toggledTask.setTitle(testTask.getTitle());
-        toggledTask.setDescription(testTask.getDescription());
-        toggledTask.setIsCompleted(true);
-        toggledTask.setProject(testProject);
-        toggledTask.setCreatedAt(testTask.getCreatedAt());
-        toggledTask.setUpdatedAt(LocalDateTime.now());
-
-        when(taskRepository.findByIdAndUserId(testTask.getId(), testUser.getId()))
-                .thenReturn(Optional.of(testTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(toggledTask);
+        TaskResponse toggled = responseOf(testTask, true);
+        when(taskRepository.toggleCompletion(eq(testTask.getId()), eq(testUser.getId()), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(taskRepository.findResponseByIdAndUserId(testTask.getId(), testUser.getId()))
+                .thenReturn(Optional.of(toggled));
 
         // Act
         TaskResponse response = taskService.toggleTaskCompletion(testTask.getId(), testUser.getId());
@@ -283,27 +300,21 @@ class TaskServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getIsCompleted()).isTrue();
 
-        verify(taskRepository, times(1)).findByIdAndUserId(testTask.getId(), testUser.getId());
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, times(1)).toggleCompletion(eq(testTask.getId()), eq(testUser.getId()), any(LocalDateTime.class));
+        verify(taskRepository, never()).findByIdAndUserId(anyLong(), anyLong());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(projectRepository, times(1)).adjustTaskCounters(testProject.getId(), 0, 1);
     }
 
     @Test
     @DisplayName("toggleTaskCompletion() - Success: Should toggle task from complete to incomplete")
     void toggleTaskCompletion_FromCompleteToIncomplete_ShouldToggleStatus() {
         // Arrange
-        testTask.setIsCompleted(true);
-        Task toggledTask = new Task();
-        toggledTask.setId(testTask.getId());
-        toggledTask.setTitle(testTask.getTitle());
-        toggledTask.setDescription(testTask.getDescription());
-        toggledTask.setIsCompleted(false);
-        toggledTask.setProject(testProject);
-        toggledTask.setCreatedAt(testTask.getCreatedAt());
-        toggledTask.setUpdatedAt(LocalDateTime.now());
-
-        when(taskRepository.findByIdAndUserId(testTask.getId(), testUser.getId()))
-                .thenReturn(Optional.of(testTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(toggledTask);
+        TaskResponse toggled = responseOf(testTask, false);
+        when(taskRepository.toggleCompletion(eq(testTask.getId()), eq(testUser.getId()), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(taskRepository.findResponseByIdAndUserId(testTask.getId(), testUser.getId()))
+                .thenReturn(Optional.of(toggled));
 
         // Act
         TaskResponse response = taskService.toggleTaskCompletion(testTask.getId(), testUser.getId());
@@ -312,23 +323,22 @@ class TaskServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getIsCompleted()).isFalse();
 
-        verify(taskRepository, times(1)).findByIdAndUserId(testTask.getId(), testUser.getId());
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(projectRepository, times(1)).adjustTaskCounters(testProject.getId(), 0, -1);
     }
 
     @Test
     @DisplayName("toggleTaskCompletion() - Failure: Should throw ResourceNotFoundException when task not found")
     void toggleTaskCompletion_WithNonExistentTask_ShouldThrowResourceNotFoundException() {
         // Arrange
-        when(taskRepository.findByIdAndUserId(999L, testUser.getId())).thenReturn(Optional.empty());
+        when(taskRepository.toggleCompletion(eq(999L), eq(testUser.getId()), any(LocalDateTime.class))).thenReturn(0);
 
         // Act & Assert
         assertThatThrownBy(() -> taskService.toggleTaskCompletion(999L, testUser.getId()))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage("Task not found");
 
-        verify(taskRepository, times(1)).findByIdAndUserId(999L, testUser.getId());
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).findResponseByIdAndUserId(anyLong(), anyLong());
+        verify(projectRepository, never()).adjustTaskCounters(anyLong(), anyLong(), anyLong());
     }
 
     @Test
@@ -336,16 +346,16 @@ class TaskServiceTest {
     void toggleTaskCompletion_WithWrongUser_ShouldThrowResourceNotFoundException() {
         // Arrange
         Long wrongUserId = 999L;
-        when(taskRepository.findByIdAndUserId(testTask.getId(), wrongUserId))
-                .thenReturn(Optional.empty());
+        when(taskRepository.toggleCompletion(eq(testTask.getId()), eq(wrongUserId), any(LocalDateTime.class)))
+                .thenReturn(0);
 
         // Act & Assert
         assertThatThrownBy(() -> taskService.toggleTaskCompletion(testTask.getId(), wrongUserId))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage("Task not found");
 
-        verify(taskRepository, times(1)).findByIdAndUserId(testTask.getId(), wrongUserId);
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, times(1)).toggleCompletion(eq(testTask.getId()), eq(wrongUserId), any(LocalDateTime.class));
+        verify(projectRepository, never()).adjustTaskCounters(anyLong(), anyLong(), anyLong());
     }
 
     // ========== deleteTask Tests ==========
@@ -363,6 +373,7 @@ class TaskServiceTest {
         // Assert
         verify(taskRepository, times(1)).findByIdAndUserId(testTask.getId(), testUser.getId());
         verify(taskRepository, times(1)).delete(testTask);
+        verify(projectRepository, times(1)).adjustTaskCounters(testProject.getId(), -1, 0);
     }
 
     @Test
@@ -418,29 +429,14 @@ class TaskServiceTest {
     @DisplayName("updateTask() - Success: Should update title and description when provided")
     void updateTask_WithTitleAndDescription_ShouldUpdateFields() {
         // Arrange
-        Task existing = new Task();
-        existing.setId(testTask.getId());
-        existing.setTitle("Old Title");
-        existing.setDescription("Old Description");
-        existing.setProject(testProject);
-        existing.setIsCompleted(false);
-        existing.setCreatedAt(testTask.getCreatedAt());
-        existing.setUpdatedAt(testTask.getUpdatedAt());
-
-        Task updated = new Task();
-        updated.setId(testTask.getId());
-        updated.setTitle("New Title");
-        updated.setDescription("New Desc");
-        updated.setProject(testProject);
-        updated.setIsCompleted(false);
-        updated.setCreatedAt(existing.getCreatedAt());
-        updated.setUpdatedAt(LocalDateTime.now());
-
-        TaskUpdateRequest request = new TaskUpdateRequest("New Title", "New Desc");
+        TaskUpdateRequest request = new TaskUpdateRequest("  New Title ", "New Desc");
+        TaskResponse updated = new TaskResponse(testTask.getId(), "New Title", "New Desc", null, false,
+                testProject.getId(), testTask.getCreatedAt(), LocalDateTime.now());
 
-        when(taskRepository.findByIdAndUserId(testTask.getId(), testUser.getId()))
-                .thenReturn(Optional.of(existing));
-        when(taskRepository.save(any(Task.class))).thenReturn(updated);
+        when(taskRepository.updateDetails(eq(testTask.getId()), eq(testUser.getId()), eq("New Title"), eq("New Desc"),
+                any(LocalDateTime.class))).thenReturn(1);
+        when(taskRepository.findResponseByIdAndUserId(testTask.getId(), testUser.getId()))
+                .thenReturn(Optional.of(updated));
 
         // Act
         TaskResponse response = taskService.updateTask(testTask.getId(), request, testUser.getId());
@@ -449,33 +445,22 @@ class TaskServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getTitle()).isEqualTo("New Title");
         assertThat(response.getDescription()).isEqualTo("New Desc");
-        verify(taskRepository, times(1)).findByIdAndUserId(testTask.getId(), testUser.getId());
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, never()).findByIdAndUserId(anyLong(), anyLong());
+        verify(taskRepository, never()).save(any(Task.class));
     }
 
     @Test
     @DisplayName("updateTask() - Success: Should update only description when title is null")
     void updateTask_WithOnlyDescription_ShouldUpdateDescription() {
         // Arrange
-        Task existing = new Task();
-        existing.setId(testTask.getId());
-        existing.setTitle("Keep Title");
-        existing.setDescription("Old Description");
-        existing.setProject(testProject);
-        existing.setIsCompleted(false);
-
-        Task updated = new Task();
-        updated.setId(testTask.getId());
-        updated.setTitle("Keep Title");
-        updated.setDescription("New Desc");
-        updated.setProject(testProject);
-        updated.setIsCompleted(false);
-
         TaskUpdateRequest request = new TaskUpdateRequest(null, "New Desc");
+        TaskResponse updated = new TaskResponse(testTask.getId(), "Keep Title", "New Desc", null, false,
+                testProject.getId(), testTask.getCreatedAt(), LocalDateTime.now());
 
-        when(taskRepository.findByIdAndUserId(testTask.getId(), testUser.getId()))
-                .thenReturn(Optional.of(existing));
-        when(taskRepository.save(any(Task.class))).thenReturn(updated);
+        when(taskRepository.updateDetails(eq(testTask.getId()), eq(testUser.getId()), isNull(), eq("New Desc"),
+                any(LocalDateTime.class))).thenReturn(1);
+        when(taskRepository.findResponseByIdAndUserId(testTask.getId(), testUser.getId()))
+                .thenReturn(Optional.of(updated));
 
         // Act
         TaskResponse response = taskService.updateTask(testTask.getId(), request, testUser.getId());
@@ -484,27 +469,38 @@ class TaskServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getTitle()).isEqualTo("Keep Title");
         assertThat(response.getDescription()).isEqualTo("New Desc");
-        verify(taskRepository, times(1)).findByIdAndUserId(testTask.getId(), testUser.getId());
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, times(1)).updateDetails(eq(testTask.getId()), eq(testUser.getId()), isNull(),
+                eq("New Desc"), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("updateTask() - Edge Case: Should not write when nothing is provided")
+    void updateTask_WithNoChanges_ShouldSkipWrite() {
+        // Arrange
+        TaskUpdateRequest request = new TaskUpdateRequest(null, null);
+        when(taskRepository.findResponseByIdAndUserId(testTask.getId(), testUser.getId()))
+                .thenReturn(Optional.of(responseOf(testTask, false)));
+
+        // Act
+        TaskResponse response = taskService.updateTask(testTask.getId(), request, testUser.getId());
+
+        // Assert
+        assertThat(response.getTitle()).isEqualTo(testTask.getTitle());
+        verify(taskRepository, never()).updateDetails(anyLong(), anyLong(), any(), any(), any());
     }
 
     @Test
     @DisplayName("updateTask() - Failure: Should throw IllegalArgumentException when title is blank")
     void updateTask_WithBlankTitle_ShouldThrowIllegalArgumentException() {
         // Arrange
-        Task existing = testTask;
         TaskUpdateRequest request = new TaskUpdateRequest("   ", "Desc");
 
-        when(taskRepository.findByIdAndUserId(testTask.getId(), testUser.getId()))
-                .thenReturn(Optional.of(existing));
-
         // Act & Assert
         assertThatThrownBy(() -> taskService.updateTask(testTask.getId(), request, testUser.getId()))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Title, if provided, must not be blank");
 
-        verify(taskRepository, times(1)).findByIdAndUserId(testTask.getId(), testUser.getId());
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).updateDetails(anyLong(), anyLong(), any(), any(), any());
     }
 
     @Test
@@ -512,14 +508,94 @@ class TaskServiceTest {
     void updateTask_WithNonExistentTask_ShouldThrowResourceNotFoundException() {
         // Arrange
         TaskUpdateRequest request = new TaskUpdateRequest("New Title", "New Desc");
-        when(taskRepository.findByIdAndUserId(999L, testUser.getId())).thenReturn(Optional.empty());
+        when(taskRepository.updateDetails(eq(999L), eq(testUser.getId()), eq("New Title"), eq("New Desc"),
+                any(LocalDateTime.class))).thenReturn(0);
 
         // Act & Assert
         assertThatThrownBy(() -> taskService.updateTask(999L, request, testUser.getId()))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage("Task not found");
 
-        verify(taskRepository, times(1)).findByIdAndUserId(999L, testUser.getId());
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).findResponseByIdAndUserId(anyLong(), anyLong());
+    }
+
+    // ========== executeBatch Tests ===========
+
+    @Test
+    @DisplayName("executeBatch() - Success: Should check ownership once and apply every operation")
+    void executeBatch_WithMixedOperations_ShouldApplyAll() {
+        // Arrange
+        Task toDelete = new Task();
+        toDelete.setId(2L);
+        toDelete.setProject(testProject);
+        toDelete.setIsCompleted(false);
+
+        TaskBatchRequest request = new TaskBatchRequest(Arrays.asList(
+                new TaskBatchOperation(TaskBatchOperation.Type.CREATE, null, "Created", null, null),
+                new TaskBatchOperation(TaskBatchOperation.Type.TOGGLE, testTask.getId(), null, null, null),
+                new TaskBatchOperation(TaskBatchOperation.Type.DELETE, toDelete.getId(), null, null, null),
+                new TaskBatchOperation(TaskBatchOperation.Type.DELETE, 999L, null, null, null)
+        ));
+        when(projectRepository.findByIdAndUserId(testProject.getId(), testUser.getId()))
+                .thenReturn(Optional.of(testProject));
+        when(taskRepository.findByProjectIdAndIdIn(eq(testProject.getId()), anyCollection()))
+                .thenReturn(Arrays.asList(testTask, toDelete));
+
+        // Act
+        TaskBatchResponse response = taskService.executeBatch(testProject.getId(), request, testUser.getId());
+
+        // Assert
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getToggled()).isEqualTo(1);
+        assertThat(response.getDeleted()).isEqualTo(1);
+        assertThat(testTask.getIsCompleted()).isTrue();
+        assertThat(response.getTasks()).hasSize(2);
+
+        verify(projectRepository, times(1)).findByIdAndUserId(testProject.getId(), testUser.getId());
+        verify(projectService, never()).validateUserOwnsProject(anyLong(), anyLong());
+        verify(taskRepository, times(1)).saveAll(anyList());
+        verify(taskRepository, times(1)).deleteAll(List.of(toDelete));
+    }
+
+    @Test
+    @DisplayName("executeBatch() - Failure: Should throw UnauthorizedException when user doesn't own project")
+    void executeBatch_WithUnauthorizedUser_ShouldThrowUnauthorizedException() {
+        // Arrange
+        TaskBatchRequest request = new TaskBatchRequest(List.of(
+                new TaskBatchOperation(TaskBatchOperation.Type.CREATE, null, "Created", null, null)
+        ));
+        when(projectRepository.findByIdAndUserId(testProject.getId(), 999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.executeBatch(testProject.getId(), request, 999L))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage("You don't have access to this project");
+
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("executeBatch() - Failure: Should throw ResourceNotFoundException when toggling an unknown task")
+    void executeBatch_WithUnknownTask_ShouldThrowResourceNotFoundException() {
+        // Arrange
+        TaskBatchRequest request = new TaskBatchRequest(List.of(
+                new TaskBatchOperation(TaskBatchOperation.Type.TOGGLE, 999L, null, null, null)
+        ));
+        when(projectRepository.findByIdAndUserId(testProject.getId(), testUser.getId()))
+                .thenReturn(Optional.of(testProject));
+        when(taskRepository.findByProjectIdAndIdIn(eq(testProject.getId()), anyCollection()))
+                .thenReturn(List.of());
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.executeBatch(testProject.getId(), request, testUser.getId()))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Task not found: 999");
+
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    private TaskResponse responseOf(Task task, boolean completed) {
+        return new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(), completed,
+                task.getProject().getId(), task.getCreatedAt(), task.getUpdatedAt());
     }
 }
@@ -0,0 +1,117 @@
+package com.taskflowapi.util;
+
+import com.taskflowapi.dto.ProjectRequest;
+import com.taskflowapi.dto.TaskRequest;
+import com.taskflowapi.dto.TaskResponse;
+import com.taskflowapi.repository.UserRepository;
+import com.taskflowapi.service.ProjectCounterRepairService;
+import com.taskflowapi.service.ProjectService;
+import com.taskflowapi.service.TaskService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+// The generator runs before the web server starts; small volumes on a separate embedded database keep this test quick
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:taskflow_seed;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "taskflow.seed.users=50",
+        "taskflow.seed.projects=300",
+        "taskflow.seed.tasks=6000",
+        "taskflow.seed.workers=2",
+        "taskflow.seed.rows-per-insert=100"
+})
+@ActiveProfiles({"test", "seed-bulk"})
+@DisplayName("BulkDataGenerator integration tests")
+class BulkDataGeneratorIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProjectCounterRepairService repairService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskSequenceInitializer taskSequenceInitializer;
+
+    @Test
+    @DisplayName("run() - Success: Should generate the configured volumes with consistent task counters")
+    void run_ShouldGenerateConfiguredVolumes() {
+        // Act (the generator already ran on startup)
+        Integer users = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email LIKE '%@load.taskflow.test'", Integer.class);
+        Integer projects = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM projects WHERE description = 'Synthetic project for load testing'", Integer.class);
+        Long tasks = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks t JOIN projects p ON t.project_id = p.id " +
+                "WHERE p.description = 'Synthetic project for load testing'", Long.class);
+        Long countedTasks = jdbcTemplate.queryForObject(
+                "SELECT SUM(total_tasks) FROM projects WHERE description = 'Synthetic project for load testing'", Long.class);
+
+        // Assert
+        assertThat(users).isEqualTo(50);
+        assertThat(projects).isEqualTo(300);
+        assertThat(tasks).isBetween(4_000L, 8_000L);
+        assertThat(countedTasks).isEqualTo(tasks);
+        assertThat(repairService.repairCounters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("run() - Success: Should leave id generators past the generated rows")
+    void run_ShouldAlignIdGenerators() {
+        // Arrange
+        Long userId = userRepository.findByEmail("john@example.com").orElseThrow().getId();
+
+        // Act
+        Long projectId = projectService.createProject(new ProjectRequest("After seeding", null), userId).getId();
+        TaskResponse task = taskService.createTask(projectId, new TaskRequest("After seeding", null, null), userId);
+
+        // Assert
+        assertThat(projectId).isGreaterThan(300L);
+        assertThat(task.getId()).isGreaterThan(jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM tasks WHERE id <> ?", Long.class, task.getId()));
+    }
+
+    @Test
+    @DisplayName("reserveTaskIds() - Success: Should reserve ids no task created through Hibernate can take")
+    void reserveTaskIds_ShouldNotOverlapSequenceBlocks() {
+        // Arrange: the pooled optimizer already holds a block
+        Long userId = userRepository.findByEmail("john@example.com").orElseThrow().getId();
+        Long projectId = projectService.createProject(new ProjectRequest("Reserved ids", null), userId).getId();
+        Long before = taskService.createTask(projectId, new TaskRequest("Before", null, null), userId).getId();
+
+        // Act
+        long first = taskSequenceInitializer.reserveTaskIds(100);
+        List<Long> after = new ArrayList<>();
+        for (int i = 0; i < TaskSequenceInitializer.ALLOCATION_SIZE + 5; i++) {
+            after.add(taskService.createTask(projectId, new TaskRequest("After " + i, null, null), userId).getId());
+        }
+
+        // Assert
+        assertThat(first).isGreaterThan(before);
+        assertThat(after).noneMatch(id -> id >= first && id < first + 100);
+    }
+
+    @Test
+    @DisplayName("cappedRowsPerInsert() - Success: Should keep each statement under the placeholder limit")
+    void cappedRowsPerInsert_ShouldStayUnderPlaceholderLimit() {
+        assertThat(BulkDataGenerator.cappedRowsPerInsert(1000, 8)).isEqualTo(1000);
+        assertThat(BulkDataGenerator.cappedRowsPerInsert(100_000, 8)).isEqualTo(65_535 / 8);
+        assertThat(BulkDataGenerator.cappedRowsPerInsert(100_000, 6)).isEqualTo(65_535 / 6);
+    }
+}
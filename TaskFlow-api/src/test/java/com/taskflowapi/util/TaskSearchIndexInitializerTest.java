@@ -0,0 +1,57 @@
+package com.taskflowapi.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TaskSearchIndexInitializer Unit Tests")
+class TaskSearchIndexInitializerTest {
+
+    private static final String ALTER = "ALTER TABLE tasks ADD FULLTEXT INDEX";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TaskSearchIndexInitializer initializer = new TaskSearchIndexInitializer(jdbcTemplate, true);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("MySQL");
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(TaskSearchIndexInitializer.INDEX_NAME)))
+                .thenReturn(0);
+    }
+
+    @Test
+    @DisplayName("afterSingletonsInstantiated() - Success: Should treat an index created concurrently as done")
+    void afterSingletonsInstantiated_WhenIndexCreatedConcurrently_ShouldSucceed() {
+        // Arrange
+        SQLException duplicate = new SQLException(
+                "Duplicate key name '" + TaskSearchIndexInitializer.INDEX_NAME + "'", "42000", 1061);
+        doThrow(new BadSqlGrammarException("ALTER", ALTER, duplicate)).when(jdbcTemplate).execute(startsWith(ALTER));
+
+        // Act & Assert
+        assertThatCode(initializer::afterSingletonsInstantiated).doesNotThrowAnyException();
+        verify(jdbcTemplate).execute(startsWith(ALTER));
+    }
+
+    @Test
+    @DisplayName("afterSingletonsInstantiated() - Failure: Should fail startup when the index can't be created")
+    void afterSingletonsInstantiated_WhenAlterFails_ShouldThrow() {
+        // Arrange
+        SQLException denied = new SQLException("ALTER command denied to user", "42000", 1142);
+        doThrow(new BadSqlGrammarException("ALTER", ALTER, denied)).when(jdbcTemplate).execute(startsWith(ALTER));
+
+        // Act & Assert
+        assertThatThrownBy(initializer::afterSingletonsInstantiated)
+                .isInstanceOf(BadSqlGrammarException.class)
+                .hasRootCause(denied);
+    }
+}
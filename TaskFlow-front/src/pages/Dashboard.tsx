@@ -1,18 +1,19 @@
 import { useState, useEffect } from 'react';
 import { Link } from 'react-router-dom';
 import { useAuth } from '@/contexts/AuthContext';
-import { projectsApi, tasksApi } from '@/services/api';
+import { dashboardApi } from '@/services/api';
 import { Card, CardContent, CardDescription, CardHeader, CardTitle } from '@/components/ui/card';
 import { Skeleton } from '@/components/ui/skeleton';
 import { Button } from '@/components/ui/button';
 import { Progress } from '@/components/ui/progress';
 import { FolderKanban, CheckCircle2, Clock, ArrowRight } from 'lucide-react';
-import type { Project, Task } from '@/types';
+import type { ProjectStats } from '@/types';
 
 export default function Dashboard() {
   const { user } = useAuth();
-  const [projects, setProjects] = useState<Project[]>([]);
-  const [allTasks, setAllTasks] = useState<Task[]>([]);
+  const [projects, setProjects] = useState<ProjectStats[]>([]);
+  const [totalTasks, setTotalTasks] = useState(0);
+  const [completedTasks, setCompletedTasks] = useState(0);
   const [isLoading, setIsLoading] = useState(true);
 
   useEffect(() => {
@@ -21,14 +22,11 @@ export default function Dashboard() {
 
   const loadDashboardData = async () => {
     try {
-      const projectsData = await projectsApi.getAll();
-      setProjects(projectsData);
-
-      // Fetch tasks for all projects
-      const tasksPromises = projectsData.map((p) => tasksApi.getByProjectId(p.id));
-      const tasksArrays = await Promise.all(tasksPromises);
-      const tasks = tasksArrays.flat();
-      setAllTasks(tasks);
+      // Single request with per-project counters computed server-side
+      const dashboard = await dashboardApi.get();
+      setProjects(dashboard.projects);
+      setTotalTasks(dashboard.totalTasks);
+      setCompletedTasks(dashboard.completedTasks);
     } catch (error) {
       console.error('Error loading dashboard:', error);
     } finally {
@@ -37,8 +35,6 @@ export default function Dashboard() {
   };
 
   const totalProjects = projects.length;
-  const totalTasks = allTasks.length;
-  const completedTasks = allTasks.filter((t) => t.isCompleted).length;
   const overallProgress = totalTasks > 0 ? Math.round((completedTasks / totalTasks) * 100) : 0;
   const recentProjects = projects.slice(0, 5);
 
@@ -157,11 +153,7 @@ export default function Dashboard() {
         ) : (
           <div className="grid gap-4 md:grid-cols-2 lg:grid-cols-3">
             {recentProjects.map((project) => {
-              const projectTasks = allTasks.filter((t) => t.projectId === project.id);
-              const completedCount = projectTasks.filter((t) => t.isCompleted).length;
-              const progress = projectTasks.length > 0
-                ? Math.round((completedCount / projectTasks.length) * 100)
-                : 0;
+              const progress = Math.round(project.progressPercentage);
 
               return (
                 <Link key={project.id} to={`/projects/${project.id}`}>
@@ -180,7 +172,7 @@ export default function Dashboard() {
                         </div>
                         <Progress value={progress} />
                         <div className="flex items-center justify-between text-xs text-muted-foreground mt-2">
-                          <span>{completedCount}/{projectTasks.length} tasks</span>
+                          <span>{project.completedTasks}/{project.totalTasks} tasks</span>
                           <span>
                             {new Date(project.createdAt).toLocaleDateString()}
                           </span>
@@ -1,19 +1,18 @@
 import { useState, useEffect } from 'react';
 import { Link } from 'react-router-dom';
-import { projectsApi, tasksApi } from '@/services/api';
+import { dashboardApi } from '@/services/api';
 import { Card, CardContent, CardDescription, CardHeader, CardTitle } from '@/components/ui/card';
 import { Button } from '@/components/ui/button';
 import { Skeleton } from '@/components/ui/skeleton';
 import { Progress } from '@/components/ui/progress';
 import { Plus, FolderKanban, Pencil, Trash2 } from 'lucide-react';
-import type { Project, Task } from '@/types';
+import type { Project, ProjectStats } from '@/types';
 import CreateProjectDialog from '@/components/projects/CreateProjectDialog';
 import { EditProjectDialog } from '@/components/projects/EditProjectDialog';
 import { DeleteProjectDialog } from '@/components/projects/DeleteProjectDialog';
 
 export default function Projects() {
-  const [projects, setProjects] = useState<Project[]>([]);
-  const [projectTasks, setProjectTasks] = useState<Record<number, Task[]>>({});
+  const [projects, setProjects] = useState<ProjectStats[]>([]);
   const [isLoading, setIsLoading] = useState(true);
   const [isDialogOpen, setIsDialogOpen] = useState(false);
   const [editingProject, setEditingProject] = useState<Project | null>(null);
@@ -25,18 +24,9 @@ export default function Projects() {
 
   const loadProjects = async () => {
     try {
-      const projectsData = await projectsApi.getAll();
-      setProjects(projectsData);
-
-      // Fetch tasks for each project
-      const tasksMap: Record<number, Task[]> = {};
-      await Promise.all(
-        projectsData.map(async (project) => {
-          const tasks = await tasksApi.getByProjectId(project.id);
-          tasksMap[project.id] = tasks;
-        })
-      );
-      setProjectTasks(tasksMap);
+      // Projects and their task counters in a single request
+      const dashboard = await dashboardApi.get();
+      setProjects(dashboard.projects);
     } catch (error) {
       console.error('Error loading projects:', error);
     } finally {
@@ -45,8 +35,10 @@ export default function Projects() {
   };
 
   const handleProjectCreated = (newProject: Project) => {
-    setProjects([newProject, ...projects]);
-    setProjectTasks({ ...projectTasks, [newProject.id]: [] });
+    setProjects([
+      { ...newProject, totalTasks: 0, completedTasks: 0, overdueTasks: 0, progressPercentage: 0 },
+      ...projects,
+    ]);
     setIsDialogOpen(false);
   };
 
@@ -126,11 +118,7 @@ export default function Projects() {
       ) : (
         <div className="grid gap-4 md:grid-cols-2 lg:grid-cols-3">
           {projects.map((project) => {
-            const tasks = projectTasks[project.id] || [];
-            const completedCount = tasks.filter((t) => t.isCompleted).length;
-            const progress = tasks.length > 0
-              ? Math.round((completedCount / tasks.length) * 100)
-              : 0;
+            const progress = Math.round(project.progressPercentage);
 
             return (
               <div key={project.id} className="relative group">
@@ -150,7 +138,7 @@ export default function Projects() {
                         </div>
                         <Progress value={progress} />
                         <div className="flex items-center justify-between text-xs text-muted-foreground mt-2">
-                          <span>{completedCount}/{tasks.length} tasks</span>
+                          <span>{project.completedTasks}/{project.totalTasks} tasks</span>
                           <span>
                             {new Date(project.createdAt).toLocaleDateString()}
                           </span>
@@ -4,6 +4,7 @@ import type {
   Project,
   Task,
   ProjectProgress,
+  Dashboard,
   LoginFormData,
   ProjectFormData,
   TaskFormData,
@@ -83,6 +84,14 @@ export const projectsApi = {
   },
 };
 
+// Dashboard API
+export const dashboardApi = {
+  get: async (upcoming = 0): Promise<Dashboard> => {
+    const response = await api.get<Dashboard>('/dashboard', { params: { upcoming } });
+    return response.data;
+  },
+};
+
 // Tasks API
 export const tasksApi = {
   getByProjectId: async (projectId: number): Promise<Task[]> => {
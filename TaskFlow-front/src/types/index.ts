@@ -33,6 +33,23 @@ export interface ProjectProgress {
   progressPercentage: number;
 }
 
+export interface ProjectStats extends Project {
+  totalTasks: number;
+  completedTasks: number;
+  overdueTasks: number;
+  progressPercentage: number;
+}
+
+export interface Dashboard {
+  totalProjects: number;
+  totalTasks: number;
+  completedTasks: number;
+  overdueTasks: number;
+  progressPercentage: number;
+  projects: ProjectStats[];
+  upcomingTasks: Task[];
+}
+
 // Form Types
 export interface LoginFormData {
   email: string;